@@ -0,0 +1,113 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.tabs.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vaadin.flow.component.tabs.Tab;
+import com.vaadin.flow.component.tabs.Tabs;
+
+/**
+ * Benchmarks for the server-side operations of {@link Tabs}.
+ * <p>
+ * Each benchmark leaves the tabs in the state it found them, so that the
+ * amount of tabs stays the same during the measurement. Mutating operations
+ * are therefore measured together with the operation reverting them.
+ *
+ * @author Vaadin Ltd.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TabsBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int tabCount;
+
+    private Tabs tabs;
+
+    private Tab spareTab;
+
+    private int nextIndex;
+
+    @Setup
+    public void setup() {
+        tabs = new Tabs();
+        tabs.update(batch -> {
+            for (int i = 0; i < tabCount; i++) {
+                batch.add(new Tab("Tab " + i));
+            }
+        });
+        tabs.setSelectedIndex(tabCount / 2);
+        spareTab = new Tab("Spare");
+    }
+
+    @Benchmark
+    public Tabs addAndRemoveLast() {
+        tabs.add(spareTab);
+        tabs.remove(spareTab);
+        return tabs;
+    }
+
+    @Benchmark
+    public Tabs addAtIndexAndRemoveFirst() {
+        tabs.addComponentAtIndex(0, spareTab);
+        tabs.remove(spareTab);
+        return tabs;
+    }
+
+    @Benchmark
+    public Tabs replaceAndRestore() {
+        Tab tab = (Tab) tabs.getComponentAt(tabCount / 3);
+        tabs.replace(tab, spareTab);
+        tabs.replace(spareTab, tab);
+        return tabs;
+    }
+
+    @Benchmark
+    public Tab setSelectedIndex() {
+        nextIndex = (nextIndex + 1) % tabCount;
+        tabs.setSelectedIndex(nextIndex);
+        return tabs.getSelectedTab();
+    }
+
+    @Benchmark
+    public Tab getSelectedTab() {
+        return tabs.getSelectedTab();
+    }
+
+    @Benchmark
+    public int setSelectedTab() {
+        nextIndex = (nextIndex + 1) % tabCount;
+        tabs.setSelectedTab((Tab) tabs.getComponentAt(nextIndex));
+        return tabs.getSelectedIndex();
+    }
+}
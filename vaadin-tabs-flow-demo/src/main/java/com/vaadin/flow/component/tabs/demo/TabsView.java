@@ -30,6 +30,7 @@ import com.vaadin.flow.component.icon.VaadinIcon;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.tabs.GeneratedVaadinTabs;
 import com.vaadin.flow.component.tabs.Tab;
+import com.vaadin.flow.component.tabs.TabPages;
 import com.vaadin.flow.component.tabs.Tabs;
 import com.vaadin.flow.component.tabs.TabsVariant;
 import com.vaadin.flow.demo.DemoView;
@@ -53,6 +54,7 @@ public class TabsView extends DemoView {
         createFullWidthTabs();
         createPreselectedTabs();
         createTabsWithPages();
+        createTabsWithLazyPages();
         createTabsWithCustomContent();
         createTabsWithThemeVariants();
         createTabsAutoselectFalse();
@@ -219,6 +221,24 @@ public class TabsView extends DemoView {
         addCard("Tabs with pages", tabs, pages);
     }
 
+    private void createTabsWithLazyPages() {
+        // begin-source-example
+        // source-example-heading: Tabs with lazily created pages
+        Tab tab1 = new Tab("Tab one");
+        Tab tab2 = new Tab("Tab two");
+        Tab tab3 = new Tab("Tab three");
+        Tabs tabs = new Tabs(tab1, tab2, tab3);
+
+        TabPages pages = new TabPages(tabs);
+        pages.add(tab1, () -> new Div(new Text("Page#1")));
+        pages.add(tab2, () -> new Div(new Text("Page#2")));
+        pages.add(tab3, () -> new Div(new Text("Page#3")));
+        // end-source-example
+
+        tabs.setId("tabs-with-lazy-pages");
+        addCard("Tabs with lazily created pages", tabs, pages);
+    }
+
     private void createTabsWithCustomContent() {
         // begin-source-example
         // source-example-heading: Tabs with custom content
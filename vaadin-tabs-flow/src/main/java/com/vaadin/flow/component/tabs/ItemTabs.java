@@ -0,0 +1,310 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.tabs;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.vaadin.flow.component.AbstractField.ComponentValueChangeEvent;
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.ComponentEventListener;
+import com.vaadin.flow.component.HasValueAndElement;
+import com.vaadin.flow.component.ItemLabelGenerator;
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.function.SerializableFunction;
+import com.vaadin.flow.shared.Registration;
+
+/**
+ * {@link Tabs} where each tab represents an item, and the selection is read and
+ * written as the item of the selected tab.
+ * <p>
+ * The items of the tabs are kept in maps in both directions, so finding the
+ * tab of an item or the item of a tab doesn't go through the tabs. The value
+ * of this component is the item of the selected tab, or {@code null} if no
+ * tab is selected. While this component is read-only, selections made by the
+ * user are reverted and don't change the value.
+ * <p>
+ * The tabs are managed by item, so the methods of {@link Tabs} for setting
+ * items or tab descriptors are not supported.
+ *
+ * @param <T>
+ *            the type of the items
+ * @author Vaadin Ltd.
+ */
+public class ItemTabs<T> extends Tabs implements
+        HasValueAndElement<ComponentValueChangeEvent<ItemTabs<T>, T>, T> {
+
+    private final Map<Tab, T> tabItems = new HashMap<>();
+
+    private final Map<T, Tab> itemTabs = new HashMap<>();
+
+    private ItemLabelGenerator<T> itemLabelGenerator = String::valueOf;
+
+    private T value;
+
+    /**
+     * Constructs an empty new object.
+     */
+    public ItemTabs() {
+        addSelectedChangeListener(event -> {
+            if (event.isFromClient() && isReadOnly()) {
+                // Selects the tab of the current value again, which doesn't
+                // fire a value change event
+                setSelectedTab(value == null ? null : itemTabs.get(value));
+                return;
+            }
+            updateValue(event.isFromClient());
+        });
+    }
+
+    /**
+     * Constructs a new object with tabs for the given items.
+     *
+     * @param items
+     *            the items to add tabs for, not {@code null}
+     */
+    public ItemTabs(Collection<T> items) {
+        this();
+        setItems(items);
+    }
+
+    /**
+     * Sets the generator for the labels of the tabs created for items. The
+     * generator is used for the tabs created after calling this method. By
+     * default, {@link String#valueOf(Object)} is used.
+     *
+     * @param itemLabelGenerator
+     *            the item label generator, not {@code null}
+     */
+    public void setItemLabelGenerator(ItemLabelGenerator<T> itemLabelGenerator) {
+        this.itemLabelGenerator = Objects.requireNonNull(itemLabelGenerator,
+                "Item label generator cannot be null");
+    }
+
+    /**
+     * Replaces all the tabs of this component with tabs for the given items.
+     * If the currently selected item is among the new items, its new tab is
+     * selected.
+     *
+     * @param items
+     *            the items to add tabs for, not {@code null}
+     * @throws IllegalArgumentException
+     *             if the same item is given more than once
+     */
+    public void setItems(Collection<T> items) {
+        Objects.requireNonNull(items, "Items cannot be null");
+        T selectedItem = getValue();
+        update(batch -> {
+            batch.removeAll();
+            items.forEach(this::addItem);
+            Tab selectedTab = itemTabs.get(selectedItem);
+            if (selectedTab != null) {
+                batch.setSelectedTab(selectedTab);
+            }
+        });
+    }
+
+    /**
+     * Not supported, the tabs of this component are managed by item. Use
+     * {@link #setItems(Collection)} instead.
+     *
+     * @throws UnsupportedOperationException
+     *             always
+     */
+    @Override
+    public <I> TabsItemWindow<I> setItems(DataProvider<I, ?> dataProvider,
+            ItemLabelGenerator<I> itemLabelGenerator) {
+        throw new UnsupportedOperationException(
+                "ItemTabs doesn't support data providers, use setItems(Collection) instead");
+    }
+
+    /**
+     * Not supported, the tabs of this component are managed by item. Use
+     * {@link #setItems(Collection)} instead.
+     *
+     * @throws UnsupportedOperationException
+     *             always
+     */
+    @Override
+    public <I> void setItems(List<I> items,
+            SerializableFunction<I, ? extends Serializable> keyProvider,
+            SerializableFunction<I, Tab> tabFactory) {
+        throw new UnsupportedOperationException(
+                "ItemTabs doesn't support keyed items, use setItems(Collection) instead");
+    }
+
+    /**
+     * Not supported, the tabs of this component are managed by item.
+     *
+     * @throws UnsupportedOperationException
+     *             always
+     */
+    @Override
+    public void setTabDescriptors(List<TabDescriptor> descriptors) {
+        throw new UnsupportedOperationException(
+                "ItemTabs doesn't support tab descriptors");
+    }
+
+    /**
+     * Adds a tab for the given item, labeled with the
+     * {@link #setItemLabelGenerator(ItemLabelGenerator) item label generator}.
+     *
+     * @param item
+     *            the item to add a tab for, not {@code null}
+     * @return the created tab
+     * @throws IllegalArgumentException
+     *             if the item already has a tab
+     */
+    public Tab addItem(T item) {
+        Tab tab = new Tab(itemLabelGenerator.apply(item));
+        addItem(item, tab);
+        return tab;
+    }
+
+    /**
+     * Adds the given tab for the given item.
+     *
+     * @param item
+     *            the item of the tab, not {@code null}
+     * @param tab
+     *            the tab to add, not {@code null}
+     * @throws IllegalArgumentException
+     *             if the item already has a tab
+     */
+    public void addItem(T item, Tab tab) {
+        Objects.requireNonNull(item, "Item cannot be null");
+        Objects.requireNonNull(tab, "Tab cannot be null");
+        if (itemTabs.containsKey(item)) {
+            throw new IllegalArgumentException(
+                    "The item already has a tab: " + item);
+        }
+        itemTabs.put(item, tab);
+        tabItems.put(tab, item);
+        add(tab);
+    }
+
+    /**
+     * Gets the item of the given tab.
+     *
+     * @param tab
+     *            the tab to get the item for
+     * @return the item of the tab, or an empty optional if the tab has no item
+     */
+    public Optional<T> getItem(Tab tab) {
+        return Optional.ofNullable(tabItems.get(tab));
+    }
+
+    /**
+     * Gets the tab of the given item.
+     *
+     * @param item
+     *            the item to get the tab for
+     * @return the tab of the item, or an empty optional if the item has no tab
+     */
+    public Optional<Tab> getTab(T item) {
+        return Optional.ofNullable(itemTabs.get(item));
+    }
+
+    /**
+     * Selects the tab of the given item.
+     *
+     * @param value
+     *            the item to select, or {@code null} to unselect all
+     * @throws IllegalArgumentException
+     *             if the item has no tab in this component
+     */
+    @Override
+    public void setValue(T value) {
+        if (value == null) {
+            setSelectedTab(null);
+            return;
+        }
+        Tab tab = itemTabs.get(value);
+        if (tab == null) {
+            throw new IllegalArgumentException(
+                    "The item has no tab: " + value);
+        }
+        setSelectedTab(tab);
+    }
+
+    /**
+     * Gets the item of the selected tab.
+     *
+     * @return the selected item, or {@code null} if no tab with an item is
+     *         selected
+     */
+    @Override
+    public T getValue() {
+        Tab selectedTab = getSelectedTab();
+        return selectedTab == null ? null : tabItems.get(selectedTab);
+    }
+
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public Registration addValueChangeListener(
+            ValueChangeListener<? super ComponentValueChangeEvent<ItemTabs<T>, T>> listener) {
+        return addListener(ComponentValueChangeEvent.class,
+                (ComponentEventListener) event -> listener.valueChanged(
+                        (ComponentValueChangeEvent<ItemTabs<T>, T>) event));
+    }
+
+    @Override
+    public void remove(Component... components) {
+        super.remove(components);
+        for (Component component : components) {
+            forgetTab(component);
+        }
+    }
+
+    @Override
+    public void removeAll() {
+        super.removeAll();
+        tabItems.clear();
+        itemTabs.clear();
+    }
+
+    @Override
+    public void replace(Component oldComponent, Component newComponent) {
+        super.replace(oldComponent, newComponent);
+        if (oldComponent != null && !oldComponent.getParent()
+                .filter(this::equals).isPresent()) {
+            forgetTab(oldComponent);
+        }
+    }
+
+    private void forgetTab(Component component) {
+        T item = tabItems.remove(component);
+        if (item != null) {
+            itemTabs.remove(item);
+        }
+    }
+
+    private void updateValue(boolean fromClient) {
+        T newValue = getValue();
+        if (Objects.equals(value, newValue)) {
+            return;
+        }
+        T oldValue = value;
+        value = newValue;
+        fireEvent(new ComponentValueChangeEvent<>(this, this, oldValue,
+                fromClient));
+    }
+}
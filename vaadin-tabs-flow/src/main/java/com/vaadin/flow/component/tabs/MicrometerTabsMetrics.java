@@ -0,0 +1,107 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.tabs;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import com.vaadin.flow.function.SerializableSupplier;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * {@link TabsMetrics} implementation publishing the measurements to a
+ * Micrometer {@link MeterRegistry}. Micrometer is an optional dependency of
+ * this module, so it must be added to the application for using this class.
+ * <p>
+ * The following meters are published, all with the given tags:
+ * <ul>
+ * <li>{@code vaadin.tabs.selection.changes}: counter of selection changes,
+ * tagged with {@code source} {@code client} or {@code server}</li>
+ * <li>{@code vaadin.tabs.selection.updates}: counter of selection checks</li>
+ * <li>{@code vaadin.tabs.selection.rejected}: counter of selections of
+ * disabled tabs rejected on the server. Selections rejected in the browser
+ * are not counted, see {@link TabsMetrics#disabledSelectionRejected(Tabs)}</li>
+ * <li>{@code vaadin.tabs.selection.listeners}: timer of the selected change
+ * listeners</li>
+ * </ul>
+ *
+ * @author Vaadin Ltd.
+ */
+public class MicrometerTabsMetrics implements TabsMetrics {
+
+    private static final String PREFIX = "vaadin.tabs.selection.";
+
+    private final SerializableSupplier<MeterRegistry> registry;
+
+    private final String[] tags;
+
+    /**
+     * Creates metrics publishing to the global registry of Micrometer.
+     *
+     * @param tags
+     *            the tags of the meters, as key value pairs
+     */
+    public MicrometerTabsMetrics(String... tags) {
+        this(() -> Metrics.globalRegistry, tags);
+    }
+
+    /**
+     * Creates metrics publishing to the registry given by the supplier. The
+     * supplier is used instead of the registry itself, since registries are
+     * not serializable.
+     *
+     * @param registry
+     *            the supplier of the registry to publish to, not {@code null}
+     * @param tags
+     *            the tags of the meters, as key value pairs
+     */
+    public MicrometerTabsMetrics(SerializableSupplier<MeterRegistry> registry,
+            String... tags) {
+        this.registry = Objects.requireNonNull(registry,
+                "Registry cannot be null");
+        if (tags.length % 2 != 0) {
+            throw new IllegalArgumentException(
+                    "Tags must be given as key value pairs");
+        }
+        this.tags = tags.clone();
+    }
+
+    @Override
+    public void selectionChanged(Tabs tabs, boolean fromClient) {
+        registry.get().counter(PREFIX + "changes",
+                Tags.of(tags).and("source", fromClient ? "client" : "server"))
+                .increment();
+    }
+
+    @Override
+    public void selectionUpdated(Tabs tabs) {
+        registry.get().counter(PREFIX + "updates", tags).increment();
+    }
+
+    @Override
+    public void disabledSelectionRejected(Tabs tabs) {
+        registry.get().counter(PREFIX + "rejected", tags).increment();
+    }
+
+    @Override
+    public void listenersExecuted(Tabs tabs, long nanos) {
+        registry.get().timer(PREFIX + "listeners", tags).record(nanos,
+                TimeUnit.NANOSECONDS);
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.vaadin.flow.component.tabs;
 
+import java.util.EnumSet;
+
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.HasComponents;
 
@@ -28,6 +30,11 @@ public class Tab extends GeneratedVaadinTab<Tab> implements HasComponents {
 
     private static final String FLEX_GROW_CSS_PROPERTY = "flexGrow";
 
+    // null until set, so that the tab follows the flex grow of its Tabs
+    private Double flexGrow;
+
+    private ThemeVariants<TabVariant> themeVariants;
+
     /**
      * Constructs a new object in its default state.
      */
@@ -56,6 +63,9 @@ public class Tab extends GeneratedVaadinTab<Tab> implements HasComponents {
 
     /**
      * Gets the label of this tab.
+     * <p>
+     * Only the text directly inside the tab is returned. The text of child
+     * components is not included.
      *
      * @return the label
      */
@@ -86,6 +96,14 @@ public class Tab extends GeneratedVaadinTab<Tab> implements HasComponents {
      * <p>
      * Setting to flex grow property value 0 disables the expansion of the
      * component. Negative values are not allowed.
+     * <p>
+     * A value set for a tab, including 0, takes precedence over the value set
+     * for all the tabs with {@link Tabs#setFlexGrowForEnclosedTabs(double)}.
+     * Use {@link #clearFlexGrow()} to follow that value again.
+     * <p>
+     * The style of the element is updated only when the value changes. The
+     * value set with this method is not affected by changes made directly to
+     * the {@code flexGrow} style of the element.
      *
      * @param flexGrow
      *            the proportion of the available space the tab should take up
@@ -95,32 +113,88 @@ public class Tab extends GeneratedVaadinTab<Tab> implements HasComponents {
             throw new IllegalArgumentException(
                     "Flex grow property cannot be negative");
         }
-        if (flexGrow == 0) {
-            getElement().getStyle().remove(FLEX_GROW_CSS_PROPERTY);
-        } else {
-            getElement().getStyle().set(FLEX_GROW_CSS_PROPERTY,
-                    String.valueOf(flexGrow));
+        if (this.flexGrow != null && flexGrow == this.flexGrow) {
+            return;
         }
+        this.flexGrow = flexGrow;
+        getElement().getStyle().set(FLEX_GROW_CSS_PROPERTY,
+                String.valueOf(flexGrow));
     }
 
     /**
      * Gets the flex grow property of this tab.
+     * <p>
+     * Only the value set for this tab with {@link #setFlexGrow(double)} is
+     * returned. The value set for all the tabs with
+     * {@link Tabs#setFlexGrowForEnclosedTabs(double)} is not reflected here.
      *
      * @return the flex grow property, or 0 if none was set
      */
     public double getFlexGrow() {
-        String ratio = getElement().getStyle().get(FLEX_GROW_CSS_PROPERTY);
-        if (ratio == null || ratio.isEmpty()) {
-            return 0;
+        return flexGrow == null ? 0 : flexGrow;
+    }
+
+    /**
+     * Clears the flex grow property set for this tab, so that the tab follows
+     * the value set for all the tabs with
+     * {@link Tabs#setFlexGrowForEnclosedTabs(double)} again.
+     */
+    public void clearFlexGrow() {
+        if (flexGrow == null) {
+            return;
         }
-        try {
-            return Double.parseDouble(ratio);
-        } catch (Exception e) {
-            throw new IllegalStateException(
-                    "The flex grow property of the component is not parseable to double: "
-                            + ratio,
-                    e);
+        flexGrow = null;
+        getElement().getStyle().remove(FLEX_GROW_CSS_PROPERTY);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The theme attribute is only updated if the variants change.
+     */
+    @Override
+    public void addThemeVariants(TabVariant... variants) {
+        getThemeVariantState().add(getElement(), variants);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The theme attribute is only updated if the variants change.
+     */
+    @Override
+    public void removeThemeVariants(TabVariant... variants) {
+        getThemeVariantState().remove(getElement(), variants);
+    }
+
+    /**
+     * Sets the theme variants of the component, replacing the current ones.
+     * Theme names that are not variants are kept. The theme attribute is only
+     * updated if the variants change.
+     *
+     * @param variants
+     *            theme variants to set, not {@code null}
+     */
+    public void setThemeVariants(EnumSet<TabVariant> variants) {
+        getThemeVariantState().set(getElement(), variants);
+    }
+
+    /**
+     * Gets the theme variants of the component.
+     *
+     * @return a copy of the theme variants of the component
+     */
+    public EnumSet<TabVariant> getThemeVariants() {
+        return getThemeVariantState().get(getElement());
+    }
+
+    // Created on first use, so tabs without variants don't pay for it
+    private ThemeVariants<TabVariant> getThemeVariantState() {
+        if (themeVariants == null) {
+            themeVariants = new ThemeVariants<>(TabVariant.class,
+                    TabVariant::getVariantName);
         }
+        return themeVariants;
     }
 
     @Override
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.tabs;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import elemental.json.Json;
+import elemental.json.JsonObject;
+
+/**
+ * Lightweight description of a tab, rendered on the client without a
+ * {@link Tab} component on the server.
+ *
+ * @author Vaadin Ltd.
+ * @see Tabs#setTabDescriptors(java.util.List)
+ */
+public class TabDescriptor implements Serializable {
+
+    private final String value;
+    private final String label;
+    private final boolean enabled;
+    private final String theme;
+
+    /**
+     * Creates an enabled tab descriptor without a theme.
+     *
+     * @param value
+     *            the value identifying the tab, not {@code null}
+     * @param label
+     *            the label to display
+     */
+    public TabDescriptor(String value, String label) {
+        this(value, label, true, null);
+    }
+
+    /**
+     * Creates a tab descriptor.
+     *
+     * @param value
+     *            the value identifying the tab, not {@code null}
+     * @param label
+     *            the label to display
+     * @param enabled
+     *            {@code true} if the tab can be selected, {@code false}
+     *            otherwise
+     * @param theme
+     *            the theme names of the tab, separated by spaces, or
+     *            {@code null} for no theme
+     */
+    public TabDescriptor(String value, String label, boolean enabled,
+            String theme) {
+        this.value = Objects.requireNonNull(value, "Value cannot be null");
+        this.label = label;
+        this.enabled = enabled;
+        this.theme = theme;
+    }
+
+    /**
+     * Gets the value identifying the tab.
+     *
+     * @return the value of the tab
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the label of the tab.
+     *
+     * @return the label of the tab
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Gets whether the tab can be selected.
+     *
+     * @return {@code true} if the tab is enabled, {@code false} otherwise
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets the theme names of the tab.
+     *
+     * @return the theme names separated by spaces, or {@code null} if none
+     *         are set
+     */
+    public String getTheme() {
+        return theme;
+    }
+
+    JsonObject toJson() {
+        JsonObject json = Json.createObject();
+        json.put("value", value);
+        json.put("label", label == null ? "" : label);
+        json.put("enabled", enabled);
+        if (theme != null) {
+            json.put("theme", theme);
+        }
+        return json;
+    }
+
+    @Override
+    public String toString() {
+        return "TabDescriptor{" + value + "}";
+    }
+}
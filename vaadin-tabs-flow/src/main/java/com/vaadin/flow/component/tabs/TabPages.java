@@ -0,0 +1,397 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.tabs;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.HasSize;
+import com.vaadin.flow.component.HasStyle;
+import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.function.SerializableFunction;
+import com.vaadin.flow.function.SerializableSupplier;
+import com.vaadin.flow.shared.Registration;
+
+/**
+ * Container for the pages of a {@link Tabs} component.
+ * <p>
+ * The page of a tab is created with its factory only when the tab is selected
+ * for the first time. Pages of tabs that are not selected are kept hidden, so
+ * selecting the tab again doesn't recreate the page. The amount of pages kept
+ * can be limited with {@link #setMaxCachedPages(int)} and
+ * {@link #setMaxEstimatedBytes(long)}, in which case the pages of the least
+ * recently selected tabs are removed and created again when their tab is
+ * selected. A {@link PageStateHandler} can be used to carry lightweight state
+ * over from a removed page to its new instance.
+ * <p>
+ * The page and the factory of a tab are dropped when the tab is removed from
+ * the tabs. While the tabs are attached this happens before the response to
+ * the client, otherwise the next time the selection changes.
+ * {@link #remove(Tab)} can be used to drop them right away.
+ *
+ * @author Vaadin Ltd.
+ */
+@Tag("div")
+public class TabPages extends Component implements HasSize, HasStyle {
+
+    private final Tabs tabs;
+
+    private final Map<Tab, SerializableSupplier<Component>> pageFactories = new HashMap<>();
+
+    // Access ordered, the least recently selected page comes first
+    private final LinkedHashMap<Tab, Component> pages = new LinkedHashMap<>(16,
+            0.75f, true);
+
+    private final Map<Tab, Long> estimatedBytes = new HashMap<>();
+
+    private final Map<Tab, Serializable> savedStates = new HashMap<>();
+
+    private final Map<Tab, Registration> detachRegistrations = new HashMap<>();
+
+    private Registration selectionRegistration;
+
+    private boolean pruneScheduled;
+
+    private Component visiblePage;
+
+    private int maxCachedPages;
+
+    private long maxEstimatedBytes;
+
+    private long totalEstimatedBytes;
+
+    private SerializableFunction<Component, Long> pageSizeEstimator;
+
+    private PageStateHandler pageStateHandler;
+
+    /**
+     * Saves the state of a page before it is removed from a {@link TabPages}
+     * container, and restores it when the page is created again.
+     */
+    public interface PageStateHandler extends Serializable {
+
+        /**
+         * Saves the state of a page that is being removed to save memory. The
+         * state should be small compared to the page itself.
+         *
+         * @param tab
+         *            the tab of the page
+         * @param page
+         *            the page being removed
+         * @return the state of the page, or {@code null} if there is nothing
+         *         to restore
+         */
+        Serializable saveState(Tab tab, Component page);
+
+        /**
+         * Restores the state of a page that has been created again after
+         * having been removed.
+         *
+         * @param tab
+         *            the tab of the page
+         * @param page
+         *            the newly created page
+         * @param state
+         *            the state saved when the previous page was removed, not
+         *            {@code null}
+         */
+        void restoreState(Tab tab, Component page, Serializable state);
+    }
+
+    /**
+     * Creates a new page container for the given tabs.
+     *
+     * @param tabs
+     *            the tabs to show the pages for, not {@code null}
+     */
+    public TabPages(Tabs tabs) {
+        this.tabs = Objects.requireNonNull(tabs, "Tabs cannot be null");
+        selectionRegistration = tabs.addSelectedChangeListener(event -> {
+            pruneRemovedTabs();
+            showPage(event.getSelectedTab());
+        });
+    }
+
+    /**
+     * Stops showing the pages of the tabs given in the constructor, and
+     * removes all the pages and their factories. The tabs no longer refer to
+     * this container afterwards.
+     */
+    public void unbind() {
+        if (selectionRegistration != null) {
+            selectionRegistration.remove();
+            selectionRegistration = null;
+        }
+        new ArrayList<>(pageFactories.keySet()).forEach(this::remove);
+    }
+
+    /**
+     * Sets the factory for the page of the given tab. The page is created when
+     * the tab is selected. If the tab is currently selected, the page is
+     * created right away.
+     * <p>
+     * The tab must already have been added to the tabs given in the
+     * constructor.
+     *
+     * @param tab
+     *            the tab to set the page for, not {@code null}
+     * @param pageFactory
+     *            the factory creating the page, not {@code null}
+     */
+    public void add(Tab tab, SerializableSupplier<Component> pageFactory) {
+        Objects.requireNonNull(tab, "Tab cannot be null");
+        Objects.requireNonNull(pageFactory, "Page factory cannot be null");
+        if (!isChild(tab)) {
+            throw new IllegalArgumentException(
+                    "The tab must be added to the tabs before its page");
+        }
+        removePage(tab);
+        pageFactories.put(tab, pageFactory);
+        detachRegistrations.computeIfAbsent(tab,
+                key -> key.addDetachListener(
+                        event -> schedulePrune(event.getUI())));
+        if (tab.equals(tabs.getSelectedTab())) {
+            showPage(tab);
+        }
+    }
+
+    /**
+     * Removes the page of the given tab, together with its factory.
+     *
+     * @param tab
+     *            the tab to remove the page for
+     */
+    public void remove(Tab tab) {
+        removePage(tab);
+        pageFactories.remove(tab);
+        savedStates.remove(tab);
+        Registration registration = detachRegistrations.remove(tab);
+        if (registration != null) {
+            registration.remove();
+        }
+    }
+
+    /**
+     * Gets the page of the given tab, if it has been created and not evicted.
+     *
+     * @param tab
+     *            the tab to get the page for
+     * @return the page of the tab, or an empty optional if the page hasn't
+     *         been created
+     */
+    public Optional<Component> getPage(Tab tab) {
+        // Not using get() to avoid changing the access order
+        return pages.entrySet().stream()
+                .filter(entry -> entry.getKey().equals(tab))
+                .map(Map.Entry::getValue).findFirst();
+    }
+
+    /**
+     * Gets the maximum amount of created pages kept in this container.
+     *
+     * @return the maximum amount of pages, or 0 if the amount is not limited
+     */
+    public int getMaxCachedPages() {
+        return maxCachedPages;
+    }
+
+    /**
+     * Sets the maximum amount of created pages kept in this container. When
+     * the limit is exceeded, the pages of the least recently selected tabs are
+     * removed. The page of the selected tab is never removed. The default value
+     * is 0, which keeps all the created pages.
+     *
+     * @param maxCachedPages
+     *            the maximum amount of pages, or 0 to not limit the amount
+     */
+    public void setMaxCachedPages(int maxCachedPages) {
+        if (maxCachedPages < 0) {
+            throw new IllegalArgumentException(
+                    "Maximum amount of pages cannot be negative");
+        }
+        this.maxCachedPages = maxCachedPages;
+        evictPages();
+    }
+
+    /**
+     * Gets the maximum estimated size of the created pages kept in this
+     * container.
+     *
+     * @return the maximum estimated size in bytes, or 0 if the size is not
+     *         limited
+     * @see #setPageSizeEstimator(SerializableFunction)
+     */
+    public long getMaxEstimatedBytes() {
+        return maxEstimatedBytes;
+    }
+
+    /**
+     * Sets the maximum estimated size of the created pages kept in this
+     * container. When the sum of the sizes given by the
+     * {@link #setPageSizeEstimator(SerializableFunction) page size estimator}
+     * exceeds the limit, the pages of the least recently selected tabs are
+     * removed. The page of the selected tab is never removed. The default
+     * value is 0, which doesn't limit the size.
+     *
+     * @param maxEstimatedBytes
+     *            the maximum estimated size in bytes, or 0 to not limit the
+     *            size
+     */
+    public void setMaxEstimatedBytes(long maxEstimatedBytes) {
+        if (maxEstimatedBytes < 0) {
+            throw new IllegalArgumentException(
+                    "Maximum estimated size cannot be negative");
+        }
+        this.maxEstimatedBytes = maxEstimatedBytes;
+        evictPages();
+    }
+
+    /**
+     * Sets the function estimating the memory used by a page, in bytes. The
+     * size of a page is estimated once, when the page is created. Pages
+     * created before setting the estimator are counted as zero bytes.
+     *
+     * @param pageSizeEstimator
+     *            the page size estimator, or {@code null} to count all pages
+     *            as zero bytes
+     * @see #setMaxEstimatedBytes(long)
+     */
+    public void setPageSizeEstimator(
+            SerializableFunction<Component, Long> pageSizeEstimator) {
+        this.pageSizeEstimator = pageSizeEstimator;
+    }
+
+    /**
+     * Sets the handler saving the state of removed pages and restoring it to
+     * the pages created again.
+     *
+     * @param pageStateHandler
+     *            the page state handler, or {@code null} to not save state
+     */
+    public void setPageStateHandler(PageStateHandler pageStateHandler) {
+        this.pageStateHandler = pageStateHandler;
+        if (pageStateHandler == null) {
+            savedStates.clear();
+        }
+    }
+
+    private boolean isChild(Tab tab) {
+        return tabs.getElement().equals(tab.getElement().getParent());
+    }
+
+    /*
+     * A tab may also be detached because it's moved within the tabs, so the
+     * parent is checked only before the response instead of on every detach.
+     */
+    private void schedulePrune(UI ui) {
+        if (pruneScheduled) {
+            return;
+        }
+        pruneScheduled = true;
+        ui.beforeClientResponse(tabs, context -> pruneRemovedTabs());
+    }
+
+    private void pruneRemovedTabs() {
+        pruneScheduled = false;
+        new ArrayList<>(pageFactories.keySet()).stream()
+                .filter(tab -> !isChild(tab)).forEach(this::remove);
+    }
+
+    private void showPage(Tab tab) {
+        if (visiblePage != null) {
+            visiblePage.setVisible(false);
+            visiblePage = null;
+        }
+        if (tab == null) {
+            return;
+        }
+        Component page = pages.get(tab);
+        if (page == null) {
+            SerializableSupplier<Component> pageFactory = pageFactories
+                    .get(tab);
+            if (pageFactory == null) {
+                return;
+            }
+            page = pageFactory.get();
+            Serializable state = savedStates.remove(tab);
+            if (state != null && pageStateHandler != null) {
+                pageStateHandler.restoreState(tab, page, state);
+            }
+            pages.put(tab, page);
+            long bytes = pageSizeEstimator == null ? 0
+                    : pageSizeEstimator.apply(page);
+            estimatedBytes.put(tab, bytes);
+            totalEstimatedBytes += bytes;
+            getElement().appendChild(page.getElement());
+        }
+        page.setVisible(true);
+        visiblePage = page;
+        evictPages();
+    }
+
+    private void removePage(Tab tab) {
+        Component page = pages.remove(tab);
+        if (page != null) {
+            discardPage(tab, page);
+            if (page.equals(visiblePage)) {
+                visiblePage = null;
+            }
+        }
+    }
+
+    private void discardPage(Tab tab, Component page) {
+        getElement().removeChild(page.getElement());
+        Long bytes = estimatedBytes.remove(tab);
+        if (bytes != null) {
+            totalEstimatedBytes -= bytes;
+        }
+    }
+
+    private void evictPages() {
+        Iterator<Map.Entry<Tab, Component>> iterator = pages.entrySet()
+                .iterator();
+        while (isOverBudget() && iterator.hasNext()) {
+            Map.Entry<Tab, Component> entry = iterator.next();
+            Component page = entry.getValue();
+            if (page.equals(visiblePage)) {
+                continue;
+            }
+            Tab tab = entry.getKey();
+            if (pageStateHandler != null) {
+                Serializable state = pageStateHandler.saveState(tab, page);
+                if (state != null) {
+                    savedStates.put(tab, state);
+                }
+            }
+            iterator.remove();
+            discardPage(tab, page);
+        }
+    }
+
+    private boolean isOverBudget() {
+        return (maxCachedPages > 0 && pages.size() > maxCachedPages)
+                || (maxEstimatedBytes > 0
+                        && totalEstimatedBytes > maxEstimatedBytes);
+    }
+}
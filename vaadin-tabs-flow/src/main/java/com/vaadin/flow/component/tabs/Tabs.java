@@ -17,8 +17,22 @@
 package com.vaadin.flow.component.tabs;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.vaadin.flow.component.AttachEvent;
@@ -26,11 +40,26 @@ import com.vaadin.flow.component.ClientCallable;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.ComponentEvent;
 import com.vaadin.flow.component.ComponentEventListener;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.HasElement;
 import com.vaadin.flow.component.HasOrderedComponents;
 import com.vaadin.flow.component.HasSize;
-import com.vaadin.flow.component.Synchronize;
+import com.vaadin.flow.component.ItemLabelGenerator;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
+import com.vaadin.flow.component.dependency.CssImport;
+import com.vaadin.flow.component.dependency.JsModule;
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.dom.DomListenerRegistration;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.function.SerializableBiConsumer;
+import com.vaadin.flow.function.SerializableFunction;
+import com.vaadin.flow.router.AfterNavigationEvent;
 import com.vaadin.flow.shared.Registration;
 
+import elemental.json.Json;
+import elemental.json.JsonArray;
+
 /**
  * Server-side component for the {@code vaadin-tabs} element.
  * <p>
@@ -47,19 +76,103 @@ import com.vaadin.flow.shared.Registration;
  * <strong>Note:</strong> Adding or removing Tab components via the Element API,
  * eg. {@code tabs.getElement().insertChild(0, tab.getElement()); }, doesn't
  * update the selected index, so it may cause the selected tab to change
- * unexpectedly.
+ * unexpectedly. Changes made this way are still detected by {@link #indexOf}
+ * and the other index based methods.
  *
  * @author Vaadin Ltd.
  */
+@JsModule("./tabsConnector.js")
+@CssImport(value = "./vaadin-tab-flex-grow.css", themeFor = "vaadin-tab")
 public class Tabs extends GeneratedVaadinTabs<Tabs>
         implements HasOrderedComponents, HasSize {
 
     private static final String SELECTED = "selected";
 
-    private transient Tab selectedTab;
+    // Also used by tabsConnector.js
+    private static final String TAB_DESCRIPTORS = "tabDescriptors";
+
+    private static final String RENDER_TAB_DESCRIPTORS = "window.Vaadin.Flow.tabsConnector.initLazy($0);"
+            + "$0.$connector.renderTabDescriptors()";
+
+    private static final String PREFETCH_INDEX = "element.items.indexOf(event.target.closest('vaadin-tab'))";
+
+    private static final int PREFETCH_DEBOUNCE_TIMEOUT = 150;
+
+    private static final AtomicInteger ASYNC_LISTENER_THREAD_COUNT = new AtomicInteger();
+
+    // Threads are created only when needed and end after being idle for a
+    // minute. Daemon threads don't keep the JVM running on shutdown.
+    private static final Executor DEFAULT_ASYNC_LISTENER_EXECUTOR = Executors
+            .newCachedThreadPool(Tabs::newAsyncListenerThread);
+
+    // Selections of disabled tabs, and the selection changes reverting them
+    // in tabsConnector.js, are not sent to the server
+    private static final String SELECTION_SYNC_FILTER = "!(element.$connector && element.$connector.selectionRejected)"
+            + " && !((element.items || [])[element.selected] || {}).disabled";
+
+    // Read by the styles in vaadin-tab-flex-grow.css
+    private static final String FLEX_GROW_CSS_CUSTOM_PROPERTY = "--vaadin-tab-flex-grow";
+
+    private Tab selectedTab;
 
     private boolean autoselect = true;
 
+    private double flexGrowForEnclosedTabs;
+
+    private ThemeVariants<TabsVariant> themeVariants;
+
+    private transient TabsBatch batch;
+
+    private transient Map<Component, Integer> indexCache;
+
+    private boolean selectionEventsSuppressed;
+
+    private TabsItemWindow<?> itemWindow;
+
+    private Map<Serializable, Tab> keyedTabs;
+
+    private transient Registration pendingConnectorInit;
+
+    private boolean selectionEventsCoalesced;
+
+    private transient Registration pendingSelectedChangeEvent;
+
+    private transient Tab coalescedPreviousTab;
+
+    private transient boolean coalescedFromClient;
+
+    private transient Executor asyncListenerExecutor;
+
+    // Incremented whenever the selected tab changes, used for discarding
+    // the results of async listeners for an outdated selection
+    private int selectionGeneration;
+
+    private Registration prefetchDomListeners;
+
+    private int prefetchNeighbours;
+
+    private DomListenerRegistration selectionSync;
+
+    private int selectionSyncDelay;
+
+    private TabsMetrics metrics;
+
+    private List<TabDescriptor> tabDescriptors;
+
+    private Map<String, Integer> tabDescriptorIndices;
+
+    private String selectedValue;
+
+    private transient Registration pendingDescriptorRender;
+
+    private Map<Class<? extends Component>, Tab> routeTabs;
+
+    private Map<Tab, Class<? extends Component>> tabRoutes;
+
+    // Serialized together with the UI holding the listener, so that it can
+    // still be removed on detach after deserialization
+    private Registration afterNavigationListener;
+
     /**
      * The valid orientations of {@link Tabs} instances.
      */
@@ -73,8 +186,17 @@ public class Tabs extends GeneratedVaadinTabs<Tabs>
      */
     public Tabs() {
         setSelectedIndex(-1);
-        getElement().addPropertyChangeListener(SELECTED,
+        registerSelectionSync();
+    }
+
+    private void registerSelectionSync() {
+        selectionSync = getElement().addPropertyChangeListener(SELECTED,
+                "selected-changed",
                 event -> updateSelectedTab(event.isUserOriginated()));
+        selectionSync.setFilter(SELECTION_SYNC_FILTER);
+        if (selectionSyncDelay > 0) {
+            selectionSync.debounce(selectionSyncDelay);
+        }
     }
 
     /**
@@ -120,16 +242,27 @@ public class Tabs extends GeneratedVaadinTabs<Tabs>
      *
      * @param tabs
      *            the tabs to enclose
+     * @throws IllegalStateException
+     *             if tab descriptors are shown instead of components
      */
     public void add(Tab... tabs) {
         add((Component[]) tabs);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException
+     *             if tab descriptors are shown instead of components
+     */
     @Override
     public void add(Component... components) {
-        boolean wasEmpty = getComponentCount() == 0;
+        checkNoTabDescriptors();
+        int countBefore = getElement().getChildCount();
+        boolean wasEmpty = countBefore == 0;
         HasOrderedComponents.super.add(components);
-        if (components.length == 0) {
+        cacheAppendedIndices(countBefore, components);
+        if (components.length == 0 || batch != null) {
             return;
         }
         if (wasEmpty && autoselect) {
@@ -150,14 +283,21 @@ public class Tabs extends GeneratedVaadinTabs<Tabs>
      */
     @Override
     public void remove(Component... components) {
+        if (batch != null) {
+            HasOrderedComponents.super.remove(components);
+            indexCache = null;
+            return;
+        }
         int lowerIndices = (int) Stream.of(components).map(this::indexOf)
                 .filter(index -> index >= 0 && index < getSelectedIndex())
                 .count();
 
-        boolean isSelectedTab = Stream.of(components)
-                .anyMatch(component -> component.equals(getSelectedTab()));
+        Tab selectedTab = getSelectedTab();
+        boolean isSelectedTab = selectedTab != null && Stream.of(components)
+                .anyMatch(selectedTab::equals);
 
         HasOrderedComponents.super.remove(components);
+        indexCache = null;
 
         // Prevents changing the selected tab
         int newSelectedIndex = getSelectedIndex() - lowerIndices;
@@ -186,6 +326,10 @@ public class Tabs extends GeneratedVaadinTabs<Tabs>
     @Override
     public void removeAll() {
         HasOrderedComponents.super.removeAll();
+        indexCache = null;
+        if (batch != null) {
+            return;
+        }
         if (getSelectedIndex() > -1) {
             setSelectedIndex(-1);
         } else {
@@ -199,12 +343,25 @@ public class Tabs extends GeneratedVaadinTabs<Tabs>
      * Adding a component before the currently selected tab will increment the
      * {@link #getSelectedIndex() selected index} to avoid changing the selected
      * tab.
+     *
+     * @throws IllegalStateException
+     *             if tab descriptors are shown instead of components
      */
     @Override
     public void addComponentAtIndex(int index, Component component) {
+        checkNoTabDescriptors();
+        int countBefore = getElement().getChildCount();
         HasOrderedComponents.super.addComponentAtIndex(index, component);
+        if (index == countBefore) {
+            cacheAppendedIndices(countBefore, component);
+        } else {
+            indexCache = null;
+        }
+        if (batch != null) {
+            return;
+        }
 
-        if (autoselect && getChildren().count() == 1) {
+        if (autoselect && getElement().getChildCount() == 1) {
             setSelectedIndex(0);
         } else if (index <= getSelectedIndex()) {
             // Prevents changing the selected tab
@@ -216,10 +373,651 @@ public class Tabs extends GeneratedVaadinTabs<Tabs>
      * {@inheritDoc}
      * <p>
      * Replacing the currently selected tab will make the new tab selected.
+     *
+     * @throws IllegalStateException
+     *             if tab descriptors are shown instead of components
      */
     @Override
     public void replace(Component oldComponent, Component newComponent) {
+        checkNoTabDescriptors();
+        boolean swap = oldComponent == null || newComponent == null
+                || isChild(newComponent);
+        int oldIndex = swap ? -1 : indexOf(oldComponent);
         HasOrderedComponents.super.replace(oldComponent, newComponent);
+        if (oldIndex >= 0 && indexCache != null) {
+            indexCache.remove(oldComponent);
+            indexCache.put(newComponent, oldIndex);
+        } else {
+            indexCache = null;
+        }
+        if (batch == null) {
+            updateSelectedTab(false);
+        }
+    }
+
+    /**
+     * Applies a set of changes to the tabs as a single update.
+     * <p>
+     * The operations of the given {@link TabsBatch} modify the children right
+     * away, but the selection is fixed up only once after all changes have
+     * been applied. The previously selected tab stays selected if it is still
+     * a child. If it was removed, the tab at the same index (or the last tab)
+     * is selected when autoselect is enabled. At most one
+     * {@link SelectedChangeEvent} is fired, after the changes.
+     * <p>
+     * Calling this method from inside another update applies the changes as
+     * part of the outer update.
+     * <p>
+     * If applying the changes throws an exception, the changes made before
+     * the exception are kept, the selection is fixed up for them as described
+     * above, and the exception is rethrown.
+     *
+     * @param changes
+     *            the changes to apply, not {@code null}
+     * @throws IllegalArgumentException
+     *             if the tab selected with
+     *             {@link TabsBatch#setSelectedTab(Tab)} is not a child of this
+     *             component after the changes
+     */
+    public void update(Consumer<TabsBatch> changes) {
+        Objects.requireNonNull(changes, "Changes cannot be null");
+        if (batch != null) {
+            changes.accept(batch);
+            return;
+        }
+
+        boolean wasEmpty = getComponentCount() == 0;
+        int previousIndex = getSelectedIndex();
+        TabsBatch currentBatch = new TabsBatch(this);
+        batch = currentBatch;
+        boolean applied = false;
+        try {
+            changes.accept(currentBatch);
+            applied = true;
+        } finally {
+            batch = null;
+            if (!applied) {
+                // The changes made before the failure stay, so the selection
+                // still needs to be fixed up for them
+                updateSelectedIndex(
+                        getReconciledIndex(wasEmpty, previousIndex));
+            }
+        }
+
+        Tab tabToSelect = currentBatch.getSelectedTab();
+        if (!currentBatch.isSelectionChanged()) {
+            updateSelectedIndex(getReconciledIndex(wasEmpty, previousIndex));
+        } else if (tabToSelect == null) {
+            updateSelectedIndex(-1);
+        } else {
+            int index = indexOf(tabToSelect);
+            if (index < 0) {
+                updateSelectedIndex(
+                        getReconciledIndex(wasEmpty, previousIndex));
+                throw new IllegalArgumentException(
+                        "Tab to select must be a child: " + tabToSelect);
+            }
+            updateSelectedIndex(index);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The index is looked up from an internal index that is kept up to date by
+     * the methods of this component, so the lookup doesn't need to go through
+     * all the children. The index is rebuilt if the children have been changed
+     * through the Element API.
+     */
+    @Override
+    public int indexOf(Component component) {
+        if (component == null) {
+            throw new IllegalArgumentException(
+                    "The 'component' parameter cannot be null");
+        }
+        if (!isChild(component)) {
+            return -1;
+        }
+        Integer index = indexCache == null ? null : indexCache.get(component);
+        if (index == null || !isAtIndex(component, index)) {
+            rebuildIndexCache();
+            index = indexCache.get(component);
+        }
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The component is looked up directly from the child element at the given
+     * index, so the lookup doesn't need to go through the preceding children.
+     */
+    @Override
+    public Component getComponentAt(int index) {
+        if (index < 0 || index >= getElement().getChildCount()) {
+            throw new IllegalArgumentException(
+                    "The 'index' argument should be between 0 and the number of"
+                            + " children components. It was: " + index);
+        }
+        return getElement().getChild(index).getComponent()
+                .orElseThrow(() -> new IllegalStateException(
+                        "Illegal element inside Tabs at index " + index
+                                + ". Element should be mapped to a Tab."));
+    }
+
+    @Override
+    public int getComponentCount() {
+        return getElement().getChildCount();
+    }
+
+    private boolean isChild(Component component) {
+        return getElement().equals(component.getElement().getParent());
+    }
+
+    private boolean isAtIndex(Component component, int index) {
+        return index < getElement().getChildCount()
+                && getElement().getChild(index).equals(component.getElement());
+    }
+
+    private void rebuildIndexCache() {
+        indexCache = new IdentityHashMap<>();
+        for (int i = 0; i < getElement().getChildCount(); i++) {
+            Element child = getElement().getChild(i);
+            int index = i;
+            child.getComponent()
+                    .ifPresent(component -> indexCache.put(component, index));
+        }
+    }
+
+    private void cacheAppendedIndices(int countBefore,
+            Component... components) {
+        if (indexCache == null) {
+            return;
+        }
+        if (getElement().getChildCount() != countBefore + components.length) {
+            // Some of the components were already children and got moved
+            indexCache = null;
+            return;
+        }
+        for (int i = 0; i < components.length; i++) {
+            indexCache.put(components[i], countBefore + i);
+        }
+    }
+
+    void updateWithoutEvent(Consumer<TabsBatch> changes) {
+        boolean suppressed = selectionEventsSuppressed;
+        selectionEventsSuppressed = true;
+        try {
+            update(changes);
+        } finally {
+            selectionEventsSuppressed = suppressed;
+        }
+    }
+
+    /**
+     * Replaces the children of this component with tabs for the items of the
+     * given data provider.
+     * <p>
+     * Only a window of the items is materialized as {@link Tab} components at
+     * a time, see {@link TabsItemWindow}. The window moves with the selection
+     * and when the user scrolls to its edges, so a large amount of items can be
+     * shown without creating a component for each one of them. The children
+     * of this component are managed by the returned window, so tabs should not
+     * be added or removed manually until {@link #clearItems()} is called.
+     *
+     * @param <T>
+     *            the type of the items
+     * @param dataProvider
+     *            the data provider of the items, not {@code null}
+     * @param itemLabelGenerator
+     *            the generator for the labels of the tabs, not {@code null}
+     * @return the window for reading and changing the selection by item
+     */
+    public <T> TabsItemWindow<T> setItems(DataProvider<T, ?> dataProvider,
+            ItemLabelGenerator<T> itemLabelGenerator) {
+        clearItems();
+        clearTabDescriptors();
+        keyedTabs = null;
+        if (getComponentCount() > 0) {
+            removeAll();
+        }
+        TabsItemWindow<T> window = new TabsItemWindow<>(this, dataProvider,
+                itemLabelGenerator);
+        itemWindow = window;
+        window.bind();
+        return window;
+    }
+
+    /**
+     * Replaces the children of this component with tabs for the given items,
+     * reusing the tabs created for the same keys by a previous call of this
+     * method.
+     * <p>
+     * The current children are compared with the tabs for the new items by
+     * key. Tabs of items that no longer exist are removed, tabs for new keys
+     * are created with the factory, and the tabs that are kept are moved only
+     * when needed to reach the order of the items. Reused tabs are not
+     * updated, so the factory should only use the parts of the item that the
+     * key identifies. The selected tab stays selected if its key is among the
+     * new items, and at most one {@link SelectedChangeEvent} is fired.
+     *
+     * @param <T>
+     *            the type of the items
+     * @param items
+     *            the items to show tabs for, not {@code null}
+     * @param keyProvider
+     *            the function giving a unique key for each item, used for
+     *            identifying the tabs between calls, not {@code null}. The
+     *            keys are serialized with this component.
+     * @param tabFactory
+     *            the function creating a tab for an item with a new key, not
+     *            {@code null}
+     * @throws IllegalArgumentException
+     *             if two items have the same key
+     */
+    public <T> void setItems(List<T> items,
+            SerializableFunction<T, ? extends Serializable> keyProvider,
+            SerializableFunction<T, Tab> tabFactory) {
+        Objects.requireNonNull(items, "Items cannot be null");
+        Objects.requireNonNull(keyProvider, "Key provider cannot be null");
+        Objects.requireNonNull(tabFactory, "Tab factory cannot be null");
+        clearItems();
+        clearTabDescriptors();
+
+        Map<Serializable, Tab> newKeyedTabs = new HashMap<>();
+        List<Tab> newTabs = new ArrayList<>(items.size());
+        for (T item : items) {
+            Serializable key = keyProvider.apply(item);
+            Tab tab = keyedTabs == null ? null : keyedTabs.get(key);
+            if (tab == null || !isChild(tab)) {
+                tab = Objects.requireNonNull(tabFactory.apply(item),
+                        "Tab factory cannot return null");
+            }
+            if (newKeyedTabs.put(key, tab) != null) {
+                throw new IllegalArgumentException(
+                        "Duplicate key for items: " + key);
+            }
+            newTabs.add(tab);
+        }
+
+        update(changes -> reconcile(changes, newTabs));
+        keyedTabs = newKeyedTabs;
+    }
+
+    private void reconcile(TabsBatch changes, List<Tab> newTabs) {
+        Set<Tab> stable = getStableTabs(newTabs);
+        Set<Component> kept = Collections
+                .newSetFromMap(new IdentityHashMap<>());
+        kept.addAll(stable);
+        // The tabs that have to move are taken out together with the removed
+        // ones, so the stable tabs are left in their final order
+        Component[] removed = getChildren()
+                .filter(child -> !kept.contains(child))
+                .toArray(Component[]::new);
+        if (removed.length > 0) {
+            changes.remove(removed);
+        }
+
+        // Going forwards, the children before the index are already final,
+        // so the other tabs are inserted without looking up any index
+        for (int i = 0; i < newTabs.size(); i++) {
+            Tab tab = newTabs.get(i);
+            if (!stable.contains(tab)) {
+                changes.addComponentAtIndex(i, tab);
+            }
+        }
+    }
+
+    /*
+     * The largest set of current children that are already in the same
+     * relative order as in the new tabs, so that they don't need to be moved.
+     * Computed as the longest increasing subsequence of their current indices.
+     */
+    private Set<Tab> getStableTabs(List<Tab> newTabs) {
+        List<Tab> children = newTabs.stream().filter(this::isChild)
+                .collect(Collectors.toList());
+        int[] indices = children.stream().mapToInt(this::indexOf).toArray();
+
+        // tails[k] is the position in children ending the best subsequence
+        // of length k + 1, previous links the subsequences together
+        int[] tails = new int[indices.length];
+        int[] previous = new int[indices.length];
+        int length = 0;
+        for (int i = 0; i < indices.length; i++) {
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (indices[tails[middle]] < indices[i]) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+
+        Set<Tab> stable = Collections.newSetFromMap(new IdentityHashMap<>());
+        int i = length > 0 ? tails[length - 1] : -1;
+        while (i >= 0) {
+            stable.add(children.get(i));
+            i = previous[i];
+        }
+        return stable;
+    }
+
+    /**
+     * Shows tabs for the given descriptors instead of {@link Tab} components.
+     * <p>
+     * The descriptors are sent to the client as a single property and the
+     * tabs are rendered there, so the tabs don't need a component or a state
+     * node each on the server. This suits static navigation bars with many
+     * tabs. The selection is read and written by the
+     * {@link TabDescriptor#getValue() values} of the descriptors, see
+     * {@link #getSelectedValue()} and {@link #addSelectedValueChangeListener}.
+     * {@link #getSelectedTab()} always returns {@code null} in this mode, and
+     * no {@link SelectedChangeEvent SelectedChangeEvents} are fired.
+     * <p>
+     * All the child components are removed, and adding child components
+     * throws an {@link IllegalStateException} while descriptors are set.
+     * Setting items with {@link #setItems(DataProvider, ItemLabelGenerator)}
+     * or {@link #setItems(List, SerializableFunction, SerializableFunction)}
+     * goes back to using components. The selected value is kept if a
+     * descriptor with it is among the new ones.
+     * <p>
+     * The tabs are rendered as direct children of the {@code vaadin-tabs}
+     * element, since it only uses its direct {@code vaadin-tab} children as
+     * items. They are not known to the server, which is why they can't be
+     * mixed with child components.
+     *
+     * @param descriptors
+     *            the descriptors of the tabs, or {@code null} to go back to
+     *            using components
+     * @throws IllegalArgumentException
+     *             if two descriptors have the same value
+     */
+    public void setTabDescriptors(List<TabDescriptor> descriptors) {
+        clearItems();
+        keyedTabs = null;
+        if (getComponentCount() > 0) {
+            removeAll();
+        }
+
+        if (descriptors == null) {
+            clearTabDescriptors();
+            return;
+        }
+
+        Map<String, Integer> indices = new HashMap<>();
+        JsonArray json = Json.createArray();
+        for (TabDescriptor descriptor : descriptors) {
+            if (indices.put(descriptor.getValue(), indices.size()) != null) {
+                throw new IllegalArgumentException(
+                        "Duplicate value for tab descriptors: "
+                                + descriptor.getValue());
+            }
+            json.set(json.length(), descriptor.toJson());
+        }
+        tabDescriptors = Collections
+                .unmodifiableList(new ArrayList<>(descriptors));
+        tabDescriptorIndices = indices;
+        getElement().setPropertyJson(TAB_DESCRIPTORS, json);
+        renderTabDescriptors();
+
+        Integer selected = selectedValue == null ? null
+                : indices.get(selectedValue);
+        if (selected == null) {
+            selected = autoselect && !descriptors.isEmpty() ? 0 : -1;
+        }
+        updateSelectedIndex(selected);
+    }
+
+    /**
+     * Gets the descriptors of the tabs shown instead of {@link Tab}
+     * components.
+     *
+     * @return an unmodifiable list of the descriptors, or an empty list if
+     *         none are set
+     * @see #setTabDescriptors(List)
+     */
+    public List<TabDescriptor> getTabDescriptors() {
+        return tabDescriptors == null ? Collections.emptyList()
+                : tabDescriptors;
+    }
+
+    /**
+     * Gets the value of the selected tab descriptor.
+     *
+     * @return the selected value, or {@code null} if no descriptor is
+     *         selected
+     * @see #setTabDescriptors(List)
+     */
+    public String getSelectedValue() {
+        return selectedValue;
+    }
+
+    /**
+     * Selects the tab descriptor with the given value.
+     *
+     * @param value
+     *            the value to select, or {@code null} to unselect all
+     * @throws IllegalArgumentException
+     *             if none of the tab descriptors has the given value
+     * @see #setTabDescriptors(List)
+     */
+    public void setSelectedValue(String value) {
+        if (value == null) {
+            setSelectedIndex(-1);
+            return;
+        }
+        Integer index = tabDescriptorIndices == null ? null
+                : tabDescriptorIndices.get(value);
+        if (index == null) {
+            throw new IllegalArgumentException(
+                    "No tab descriptor has the value: " + value);
+        }
+        setSelectedIndex(index);
+    }
+
+    /**
+     * Adds a listener for {@link SelectedValueChangeEvent}, fired when the
+     * selected tab descriptor changes.
+     *
+     * @param listener
+     *            the listener to add, not <code>null</code>
+     * @return a handle that can be used for removing the listener
+     * @see #setTabDescriptors(List)
+     */
+    public Registration addSelectedValueChangeListener(
+            ComponentEventListener<SelectedValueChangeEvent> listener) {
+        return addListener(SelectedValueChangeEvent.class, listener);
+    }
+
+    private void clearTabDescriptors() {
+        if (tabDescriptors == null) {
+            return;
+        }
+        tabDescriptors = null;
+        tabDescriptorIndices = null;
+        selectedValue = null;
+        getElement().removeProperty(TAB_DESCRIPTORS);
+        setSelectedIndex(-1);
+        renderTabDescriptors();
+    }
+
+    private void checkNoTabDescriptors() {
+        if (tabDescriptors != null) {
+            throw new IllegalStateException(
+                    "Components cannot be added while tab descriptors are set, "
+                            + "call setTabDescriptors(null) first");
+        }
+    }
+
+    private void renderTabDescriptors() {
+        if (pendingDescriptorRender != null) {
+            return;
+        }
+        getElement().getNode().runWhenAttached(ui -> pendingDescriptorRender = ui
+                .beforeClientResponse(this, context -> {
+                    pendingDescriptorRender = null;
+                    ui.getPage().executeJs(RENDER_TAB_DESCRIPTORS,
+                            getElement());
+                }));
+    }
+
+    private void updateSelectedValue(boolean changedFromClient) {
+        int index = getSelectedIndex();
+        TabDescriptor descriptor = index >= 0 && index < tabDescriptors.size()
+                ? tabDescriptors.get(index)
+                : null;
+        if (descriptor != null && !descriptor.isEnabled()) {
+            if (metrics != null) {
+                metrics.disabledSelectionRejected(this);
+            }
+            setSelectedIndex(selectedValue == null ? -1
+                    : tabDescriptorIndices.get(selectedValue));
+            return;
+        }
+        String value = descriptor == null ? null : descriptor.getValue();
+        if (Objects.equals(value, selectedValue)) {
+            return;
+        }
+        String previousValue = selectedValue;
+        selectedValue = value;
+        if (metrics != null) {
+            metrics.selectionChanged(this, changedFromClient);
+        }
+        if (!selectionEventsSuppressed) {
+            fireEvent(new SelectedValueChangeEvent(this, previousValue,
+                    changedFromClient));
+        }
+    }
+
+    /**
+     * Binds the given tab to a navigation target.
+     * <p>
+     * When the user selects the tab, the UI navigates to the target. When the
+     * UI navigates to the target, or to a route inside a layout bound to a
+     * tab, the tab is selected. The bound tab is looked up from a map, so the
+     * amount of tabs doesn't affect the cost of navigation. Selecting the tab
+     * for a navigation that was started by clicking the same tab doesn't
+     * change anything, so no extra {@link SelectedChangeEvent} or request is
+     * caused. When the UI navigates to a target that isn't bound to any tab,
+     * the selection is cleared.
+     *
+     * @param tab
+     *            the tab to bind, not {@code null}
+     * @param navigationTarget
+     *            the navigation target without required parameters, or
+     *            {@code null} to remove the binding of the tab
+     */
+    public void bindRoute(Tab tab,
+            Class<? extends Component> navigationTarget) {
+        Objects.requireNonNull(tab, "Tab cannot be null");
+        if (routeTabs == null) {
+            if (navigationTarget == null) {
+                return;
+            }
+            routeTabs = new HashMap<>();
+            tabRoutes = new HashMap<>();
+            addSelectedChangeListener(event -> {
+                if (event.isFromClient()) {
+                    navigateToSelectedTab();
+                }
+            });
+            getUI().ifPresent(this::addAfterNavigationListener);
+        }
+
+        Class<? extends Component> previousTarget = tabRoutes.remove(tab);
+        if (previousTarget != null) {
+            routeTabs.remove(previousTarget);
+        }
+        if (navigationTarget != null) {
+            Tab previousTab = routeTabs.put(navigationTarget, tab);
+            if (previousTab != null) {
+                tabRoutes.remove(previousTab);
+            }
+            tabRoutes.put(tab, navigationTarget);
+        }
+    }
+
+    /**
+     * Gets the navigation target bound to the given tab.
+     *
+     * @param tab
+     *            the tab to get the navigation target for
+     * @return the navigation target of the tab, or an empty optional if none
+     *         is bound
+     * @see #bindRoute(Tab, Class)
+     */
+    public Optional<Class<? extends Component>> getRoute(Tab tab) {
+        return tabRoutes == null ? Optional.empty()
+                : Optional.ofNullable(tabRoutes.get(tab));
+    }
+
+    private void addAfterNavigationListener(UI ui) {
+        if (afterNavigationListener == null) {
+            afterNavigationListener = ui
+                    .addAfterNavigationListener(this::selectTabForNavigation);
+        }
+    }
+
+    private void selectTabForNavigation(AfterNavigationEvent event) {
+        // The route target comes first, followed by its parent layouts
+        for (HasElement element : event.getActiveChain()) {
+            Tab tab = routeTabs.get(element.getClass());
+            if (tab != null && isChild(tab)) {
+                setSelectedTab(tab);
+                return;
+            }
+        }
+        setSelectedTab(null);
+    }
+
+    private void navigateToSelectedTab() {
+        Tab tab = getSelectedTab();
+        Class<? extends Component> navigationTarget = tab == null ? null
+                : tabRoutes.get(tab);
+        if (navigationTarget != null) {
+            getUI().ifPresent(ui -> ui.navigate(navigationTarget));
+        }
+    }
+
+    /**
+     * Removes the items set with
+     * {@link #setItems(DataProvider, ItemLabelGenerator)} and all the tabs
+     * materialized for them.
+     */
+    public void clearItems() {
+        if (itemWindow != null) {
+            itemWindow.unbind();
+            itemWindow = null;
+            removeAll();
+        }
+    }
+
+    private int getReconciledIndex(boolean wasEmpty, int previousIndex) {
+        int count = getComponentCount();
+        if (count == 0) {
+            return -1;
+        }
+        if (selectedTab != null) {
+            int index = indexOf(selectedTab);
+            if (index >= 0) {
+                return index;
+            }
+            return autoselect ? Math.min(previousIndex, count - 1) : -1;
+        }
+        return wasEmpty && autoselect ? 0 : -1;
+    }
+
+    private void updateSelectedIndex(int selectedIndex) {
+        setSelectedIndex(selectedIndex);
+        // The index may stay the same even though the tab in it has changed
         updateSelectedTab(false);
     }
 
@@ -300,14 +1098,140 @@ public class Tabs extends GeneratedVaadinTabs<Tabs>
         }
     }
 
+    /**
+     * An event to mark that the selected tab descriptor has changed.
+     *
+     * @see Tabs#setTabDescriptors(List)
+     */
+    public static class SelectedValueChangeEvent extends ComponentEvent<Tabs> {
+        private final String selectedValue;
+        private final String previousValue;
+
+        /**
+         * Creates a new selected value change event.
+         *
+         * @param source
+         *            The tabs that fired the event.
+         * @param previousValue
+         *            The previously selected value.
+         * @param fromClient
+         *            <code>true</code> for client-side events,
+         *            <code>false</code> otherwise.
+         */
+        public SelectedValueChangeEvent(Tabs source, String previousValue,
+                boolean fromClient) {
+            super(source, fromClient);
+            this.selectedValue = source.getSelectedValue();
+            this.previousValue = previousValue;
+        }
+
+        /**
+         * Gets the selected value for this event.
+         *
+         * @return the selected value, or {@code null} if no descriptor is
+         *         selected
+         */
+        public String getSelectedValue() {
+            return selectedValue;
+        }
+
+        /**
+         * Gets the previously selected value for this event.
+         *
+         * @return the previously selected value, or {@code null} if no
+         *         descriptor was selected
+         */
+        public String getPreviousValue() {
+            return previousValue;
+        }
+    }
+
+    /**
+     * An event to mark that a tab is likely to be selected soon, so that the
+     * content for it can be prepared in advance.
+     * <p>
+     * Events coming from the client are fired when the user hovers or focuses
+     * a tab. Events fired from the server are caused by the
+     * {@link Tabs#setPrefetchNeighbours(int) neighbour prefetch policy}.
+     */
+    public static class PrefetchEvent extends ComponentEvent<Tabs> {
+        private final Tab tab;
+
+        /**
+         * Creates a new prefetch event.
+         *
+         * @param source
+         *            The tabs that fired the event.
+         * @param tab
+         *            The tab to prefetch.
+         * @param fromClient
+         *            <code>true</code> for client-side events,
+         *            <code>false</code> otherwise.
+         */
+        public PrefetchEvent(Tabs source, Tab tab, boolean fromClient) {
+            super(source, fromClient);
+            this.tab = tab;
+        }
+
+        /**
+         * Gets the tab to prefetch.
+         *
+         * @return the tab to prefetch
+         */
+        public Tab getTab() {
+            return tab;
+        }
+    }
+
     @Override
     protected void onAttach(AttachEvent attachEvent) {
-        getElement().getNode().runWhenAttached(ui -> ui.beforeClientResponse(
-                this,
-                context -> ui.getPage().executeJs(
-                        "$0.addEventListener('items-changed', "
-                                + "function(){ this.$server.updateSelectedTab(true); });",
-                        getElement())));
+        super.onAttach(attachEvent);
+        initConnector();
+        if (tabDescriptors != null) {
+            // A new client-side element needs the tabs to be rendered again
+            renderTabDescriptors();
+        }
+        if (routeTabs != null) {
+            addAfterNavigationListener(attachEvent.getUI());
+        }
+    }
+
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        super.onDetach(detachEvent);
+        if (pendingConnectorInit != null) {
+            pendingConnectorInit.remove();
+            pendingConnectorInit = null;
+        }
+        if (pendingDescriptorRender != null) {
+            pendingDescriptorRender.remove();
+            pendingDescriptorRender = null;
+        }
+        // The pending event would not be run for a detached component
+        if (pendingSelectedChangeEvent != null) {
+            pendingSelectedChangeEvent.remove();
+            fireCoalescedSelectedChangeEvent();
+        }
+        if (afterNavigationListener != null) {
+            afterNavigationListener.remove();
+            afterNavigationListener = null;
+        }
+    }
+
+    private void initConnector() {
+        // The connector itself ignores repeated initialization of the same
+        // element, this avoids sending the call more than once per response
+        if (pendingConnectorInit != null) {
+            return;
+        }
+        getElement().getNode()
+                .runWhenAttached(ui -> pendingConnectorInit = ui
+                        .beforeClientResponse(this, context -> {
+                            pendingConnectorInit = null;
+                            ui.getPage().executeJs(
+                                    "window.Vaadin.Flow.tabsConnector.initLazy($0)",
+                                    getElement());
+                        }));
     }
 
     /**
@@ -322,13 +1246,212 @@ public class Tabs extends GeneratedVaadinTabs<Tabs>
         return addListener(SelectedChangeEvent.class, listener);
     }
 
+    /**
+     * Adds a listener for {@link PrefetchEvent}.
+     * <p>
+     * Hovering and focusing tabs is listened to on the client only while this
+     * component has prefetch listeners. The events are debounced, so moving
+     * the pointer quickly over several tabs fires one event. No event is
+     * fired for the selected tab.
+     *
+     * @param listener
+     *            the listener to add, not <code>null</code>
+     * @return a handle that can be used for removing the listener
+     */
+    public Registration addPrefetchListener(
+            ComponentEventListener<PrefetchEvent> listener) {
+        Registration registration = addListener(PrefetchEvent.class, listener);
+        if (prefetchDomListeners == null) {
+            prefetchDomListeners = Registration.combine(
+                    addPrefetchDomListener("mouseover"),
+                    addPrefetchDomListener("focusin"));
+        }
+        return () -> {
+            registration.remove();
+            if (!hasListener(PrefetchEvent.class)
+                    && prefetchDomListeners != null) {
+                prefetchDomListeners.remove();
+                prefetchDomListeners = null;
+            }
+        };
+    }
+
+    private Registration addPrefetchDomListener(String eventType) {
+        return getElement()
+                .addEventListener(eventType,
+                        event -> firePrefetchEvent(
+                                (int) event.getEventData()
+                                        .getNumber(PREFETCH_INDEX),
+                                true))
+                .addEventData(PREFETCH_INDEX)
+                .setFilter(PREFETCH_INDEX + " >= 0")
+                .debounce(PREFETCH_DEBOUNCE_TIMEOUT);
+    }
+
+    private void firePrefetchEvent(int index, boolean fromClient) {
+        if (index < 0 || index >= getElement().getChildCount()
+                || index == getSelectedIndex()) {
+            return;
+        }
+        Component component = getComponentAt(index);
+        if (component instanceof Tab && component.isEnabled()) {
+            fireEvent(new PrefetchEvent(this, (Tab) component, fromClient));
+        }
+    }
+
+    /**
+     * Sets the amount of tabs on each side of the selected tab to prefetch
+     * when the selection changes. A {@link PrefetchEvent} is fired for each of
+     * them after the {@link SelectedChangeEvent}, starting from the closest
+     * ones. When {@link #setSelectionEventsCoalesced(boolean) selection events
+     * are coalesced}, the neighbours are prefetched only for the selection
+     * reported by the coalesced event. The default value is 0, which doesn't
+     * prefetch any neighbours.
+     *
+     * @param prefetchNeighbours
+     *            the amount of tabs to prefetch on each side of the selected
+     *            tab
+     */
+    public void setPrefetchNeighbours(int prefetchNeighbours) {
+        if (prefetchNeighbours < 0) {
+            throw new IllegalArgumentException(
+                    "Amount of neighbours cannot be negative");
+        }
+        this.prefetchNeighbours = prefetchNeighbours;
+    }
+
+    /**
+     * Gets the amount of tabs on each side of the selected tab to prefetch
+     * when the selection changes.
+     *
+     * @return the amount of tabs to prefetch on each side of the selected tab
+     * @see #setPrefetchNeighbours(int)
+     */
+    public int getPrefetchNeighbours() {
+        return prefetchNeighbours;
+    }
+
+    private void prefetchNeighbours() {
+        int selectedIndex = getSelectedIndex();
+        if (prefetchNeighbours == 0 || selectedIndex < 0
+                || !hasListener(PrefetchEvent.class)) {
+            return;
+        }
+        for (int distance = 1; distance <= prefetchNeighbours; distance++) {
+            firePrefetchEvent(selectedIndex + distance, false);
+            firePrefetchEvent(selectedIndex - distance, false);
+        }
+    }
+
+    /**
+     * Adds an asynchronous listener for {@link SelectedChangeEvent}.
+     * <p>
+     * The background task is run with the
+     * {@link #setAsyncListenerExecutor(Executor) async listener executor}
+     * without holding the session lock, so it must not access any components.
+     * Its result is passed to the result handler through
+     * {@link UI#access(com.vaadin.flow.server.Command)}. The result is
+     * discarded if the selected tab has changed again before it is available.
+     * <p>
+     * If this component is not attached to a UI when the event is fired, the
+     * background task and the result handler are run right away in the
+     * calling thread.
+     *
+     * @param <R>
+     *            the type of the result of the background task
+     * @param backgroundTask
+     *            the task to run in the background, not {@code null}
+     * @param resultHandler
+     *            the handler applying the result to the UI, not {@code null}
+     * @return a handle that can be used for removing the listener
+     */
+    public <R> Registration addAsyncSelectedChangeListener(
+            SerializableFunction<SelectedChangeEvent, R> backgroundTask,
+            SerializableBiConsumer<SelectedChangeEvent, R> resultHandler) {
+        Objects.requireNonNull(backgroundTask, "Background task cannot be null");
+        Objects.requireNonNull(resultHandler, "Result handler cannot be null");
+        return addSelectedChangeListener(event -> {
+            Optional<UI> ui = getUI();
+            if (!ui.isPresent()) {
+                resultHandler.accept(event, backgroundTask.apply(event));
+                return;
+            }
+            int generation = selectionGeneration;
+            getAsyncListenerExecutor().execute(() -> runAsyncListener(ui.get(),
+                    generation, event, backgroundTask, resultHandler));
+        });
+    }
+
+    private <R> void runAsyncListener(UI ui, int generation,
+            SelectedChangeEvent event,
+            SerializableFunction<SelectedChangeEvent, R> backgroundTask,
+            SerializableBiConsumer<SelectedChangeEvent, R> resultHandler) {
+        try {
+            R result;
+            try {
+                result = backgroundTask.apply(event);
+            } catch (RuntimeException e) {
+                // Reported through the error handler of the session
+                ui.access(() -> {
+                    throw e;
+                });
+                return;
+            }
+            ui.access(() -> {
+                if (generation == selectionGeneration) {
+                    resultHandler.accept(event, result);
+                }
+            });
+        } catch (UIDetachedException e) {
+            // Nobody is interested in the result anymore
+        }
+    }
+
+    private static Thread newAsyncListenerThread(Runnable task) {
+        Thread thread = new Thread(task, "vaadin-tabs-async-listener-"
+                + ASYNC_LISTENER_THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Sets the executor running the background tasks of the listeners added
+     * with {@link #addAsyncSelectedChangeListener}. On JDK 21 and newer, an
+     * executor creating a virtual thread per task is a good fit for tasks that
+     * mostly wait for I/O. The executor is not serialized with this component.
+     * <p>
+     * By default, the tasks are run in a thread pool shared by all the tabs
+     * components and used for nothing else, so blocking tasks don't starve
+     * the common fork-join pool. The pool creates threads as needed, so an
+     * application with many slow tasks should set an executor of its own.
+     *
+     * @param asyncListenerExecutor
+     *            the executor to use, or {@code null} to use the default
+     *            executor
+     */
+    public void setAsyncListenerExecutor(Executor asyncListenerExecutor) {
+        this.asyncListenerExecutor = asyncListenerExecutor;
+    }
+
+    /**
+     * Gets the executor running the background tasks of asynchronous selected
+     * change listeners.
+     *
+     * @return the executor, not {@code null}
+     * @see #setAsyncListenerExecutor(Executor)
+     */
+    public Executor getAsyncListenerExecutor() {
+        return asyncListenerExecutor == null
+                ? DEFAULT_ASYNC_LISTENER_EXECUTOR
+                : asyncListenerExecutor;
+    }
+
     /**
      * Gets the zero-based index of the currently selected tab.
      *
      * @return the zero-based index of the selected tab, or -1 if none of the
      *         tabs is selected
      */
-    @Synchronize(property = SELECTED, value = "selected-changed")
     public int getSelectedIndex() {
         return getElement().getProperty(SELECTED, -1);
     }
@@ -350,7 +1473,7 @@ public class Tabs extends GeneratedVaadinTabs<Tabs>
      */
     public Tab getSelectedTab() {
         int selectedIndex = getSelectedIndex();
-        if (selectedIndex < 0) {
+        if (selectedIndex < 0 || tabDescriptors != null) {
             return null;
         }
 
@@ -385,6 +1508,71 @@ public class Tabs extends GeneratedVaadinTabs<Tabs>
         setSelectedIndex(selectedIndex);
     }
 
+    /**
+     * Sets the delay for sending the selection made by the user to the server.
+     * <p>
+     * The selected tab is always changed on the client right away. With a
+     * delay of 0, every selection is also sent to the server immediately. With
+     * a positive delay, the selection is sent only after the user has not
+     * changed it for the given time, so cycling quickly through the tabs
+     * results in a single request. This is useful when the content of the
+     * tabs is already on the client. Until the selection has been sent,
+     * {@link #getSelectedIndex()} returns the previously synchronized value and
+     * no {@link SelectedChangeEvent} is fired for it. The default value is 0.
+     *
+     * @param selectionSyncDelay
+     *            the delay in milliseconds, or 0 to send selections right away
+     */
+    public void setSelectionSyncDelay(int selectionSyncDelay) {
+        if (selectionSyncDelay < 0) {
+            throw new IllegalArgumentException(
+                    "Selection sync delay cannot be negative");
+        }
+        if (selectionSyncDelay == this.selectionSyncDelay) {
+            return;
+        }
+        this.selectionSyncDelay = selectionSyncDelay;
+        // A debounce can't be turned off, so the synchronization is
+        // registered again with the new settings
+        selectionSync.remove();
+        registerSelectionSync();
+    }
+
+    /**
+     * Gets the delay for sending the selection made by the user to the
+     * server.
+     *
+     * @return the delay in milliseconds, or 0 if selections are sent right
+     *         away
+     * @see #setSelectionSyncDelay(int)
+     */
+    public int getSelectionSyncDelay() {
+        return selectionSyncDelay;
+    }
+
+    /**
+     * Sets the metrics receiving measurements of the selection traffic of
+     * this component. Nothing is measured when no metrics are set, which is
+     * the default.
+     *
+     * @param metrics
+     *            the metrics to use, or {@code null} to not measure anything
+     * @see MicrometerTabsMetrics
+     */
+    public void setMetrics(TabsMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Gets the metrics receiving measurements of the selection traffic of
+     * this component.
+     *
+     * @return the metrics, or {@code null} if none are set
+     */
+    public TabsMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Gets the orientation of this tab sheet.
      *
@@ -422,6 +1610,14 @@ public class Tabs extends GeneratedVaadinTabs<Tabs>
      * <p>
      * Setting to flex grow property value 0 disables the expansion of the
      * component. Negative values are not allowed.
+     * <p>
+     * The value is set once on this component as a CSS custom property, which
+     * a stylesheet applies to all enclosed tabs, including the ones added
+     * later. Tabs with a flex grow value set with
+     * {@link Tab#setFlexGrow(double)}, including 0, keep using their own
+     * value, until it is cleared with {@link Tab#clearFlexGrow()}.
+     * {@link Tab#getFlexGrow()} returns only the value set for the tab
+     * itself.
      *
      * @param flexGrow
      *            the proportion of the available space the enclosed tabs should
@@ -434,7 +1630,113 @@ public class Tabs extends GeneratedVaadinTabs<Tabs>
             throw new IllegalArgumentException(
                     "Flex grow property must not be negative");
         }
-        getChildren().forEach(tab -> ((Tab) tab).setFlexGrow(flexGrow));
+        if (flexGrow == flexGrowForEnclosedTabs) {
+            return;
+        }
+        flexGrowForEnclosedTabs = flexGrow;
+        if (flexGrow == 0) {
+            getElement().getStyle().remove(FLEX_GROW_CSS_CUSTOM_PROPERTY);
+        } else {
+            getElement().getStyle().set(FLEX_GROW_CSS_CUSTOM_PROPERTY,
+                    String.valueOf(flexGrow));
+        }
+    }
+
+    /**
+     * Gets the flex grow property of the enclosed tabs.
+     *
+     * @return the flex grow property of the enclosed tabs, or 0 if none was
+     *         set
+     * @see #setFlexGrowForEnclosedTabs(double)
+     */
+    public double getFlexGrowForEnclosedTabs() {
+        return flexGrowForEnclosedTabs;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The theme attribute is only updated if the variants change.
+     */
+    @Override
+    public void addThemeVariants(TabsVariant... variants) {
+        getThemeVariantState().add(getElement(), variants);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The theme attribute is only updated if the variants change.
+     */
+    @Override
+    public void removeThemeVariants(TabsVariant... variants) {
+        getThemeVariantState().remove(getElement(), variants);
+    }
+
+    /**
+     * Sets the theme variants of the component, replacing the current ones.
+     * Theme names that are not variants are kept. The theme attribute is only
+     * updated if the variants change.
+     *
+     * @param variants
+     *            theme variants to set, not {@code null}
+     */
+    public void setThemeVariants(EnumSet<TabsVariant> variants) {
+        getThemeVariantState().set(getElement(), variants);
+    }
+
+    /**
+     * Gets the theme variants of the component.
+     *
+     * @return a copy of the theme variants of the component
+     */
+    public EnumSet<TabsVariant> getThemeVariants() {
+        return getThemeVariantState().get(getElement());
+    }
+
+    // Created on first use, as in Tab
+    private ThemeVariants<TabsVariant> getThemeVariantState() {
+        if (themeVariants == null) {
+            themeVariants = new ThemeVariants<>(TabsVariant.class,
+                    TabsVariant::getVariantName);
+        }
+        return themeVariants;
+    }
+
+    /**
+     * Sets whether selection changes made during one server round trip are
+     * reported with a single {@link SelectedChangeEvent}.
+     * <p>
+     * When enabled, the event is fired just before the response is sent to
+     * the client. Its previous tab is the tab that was selected before the
+     * first change, and its selected tab is the tab selected after the last
+     * change. No event is fired if the selection ends up where it started.
+     * Changes made while the component is not attached fire their events
+     * right away. The default value is false.
+     *
+     * @param selectionEventsCoalesced
+     *            {@code true} to fire one event per round trip, {@code false}
+     *            to fire an event for every change
+     */
+    public void setSelectionEventsCoalesced(boolean selectionEventsCoalesced) {
+        this.selectionEventsCoalesced = selectionEventsCoalesced;
+        if (!selectionEventsCoalesced && pendingSelectedChangeEvent != null) {
+            pendingSelectedChangeEvent.remove();
+            fireCoalescedSelectedChangeEvent();
+        }
+    }
+
+    /**
+     * Gets whether selection changes made during one server round trip are
+     * reported with a single {@link SelectedChangeEvent}. The default value is
+     * false.
+     *
+     * @return {@code true} if one event is fired per round trip,
+     *         {@code false} otherwise
+     * @see #setSelectionEventsCoalesced(boolean)
+     */
+    public boolean isSelectionEventsCoalesced() {
+        return selectionEventsCoalesced;
     }
 
     /**
@@ -464,10 +1766,20 @@ public class Tabs extends GeneratedVaadinTabs<Tabs>
 
     @ClientCallable
     private void updateSelectedTab(boolean changedFromClient) {
+        if (batch != null) {
+            return;
+        }
+        if (metrics != null) {
+            metrics.selectionUpdated(this);
+        }
         if (getSelectedIndex() < -1) {
             setSelectedIndex(-1);
             return;
         }
+        if (tabDescriptors != null) {
+            updateSelectedValue(changedFromClient);
+            return;
+        }
 
         Tab currentlySelected = getSelectedTab();
         Tab previousTab = selectedTab;
@@ -478,33 +1790,73 @@ public class Tabs extends GeneratedVaadinTabs<Tabs>
 
         if (currentlySelected == null || currentlySelected.isEnabled()) {
             selectedTab = currentlySelected;
-            getChildren().filter(Tab.class::isInstance).map(Tab.class::cast)
-                    .forEach(tab -> tab.setSelected(false));
+            selectionGeneration++;
+            if (metrics != null) {
+                metrics.selectionChanged(this, changedFromClient);
+            }
 
+            // Only the previous and the new selection need updating, the
+            // other tabs are already unselected
+            if (previousTab != null) {
+                previousTab.setSelected(false);
+            }
             if (selectedTab != null) {
                 selectedTab.setSelected(true);
             }
 
-            fireEvent(new SelectedChangeEvent(this, previousTab,
-                    changedFromClient));
+            if (!selectionEventsSuppressed) {
+                fireSelectedChangeEvent(previousTab, changedFromClient);
+            }
         } else {
-            updateEnabled(currentlySelected);
+            // Only reached if the client-side guard has been bypassed, or if
+            // the disabled tab was selected on the server
+            if (metrics != null) {
+                metrics.disabledSelectionRejected(this);
+            }
             setSelectedTab(selectedTab);
         }
     }
 
-    private void updateEnabled(Tab tab) {
-        boolean enabled = tab.isEnabled();
-        Serializable rawValue = tab.getElement().getPropertyRaw("disabled");
-        if (rawValue instanceof Boolean) {
-            // convert the boolean value to a String to force update the
-            // property value. Otherwise since the provided value is the same as
-            // the current one the update don't do anything.
-            tab.getElement().setProperty("disabled",
-                    enabled ? null : Boolean.TRUE.toString());
+    private void fireSelectedChangeEvent(Tab previousTab,
+            boolean changedFromClient) {
+        Optional<UI> ui = getUI();
+        if (!selectionEventsCoalesced || !ui.isPresent()) {
+            fireMeasuredEvent(new SelectedChangeEvent(this, previousTab,
+                    changedFromClient));
+            return;
+        }
+        coalescedFromClient = changedFromClient;
+        if (pendingSelectedChangeEvent == null) {
+            coalescedPreviousTab = previousTab;
+            pendingSelectedChangeEvent = ui.get().beforeClientResponse(this,
+                    context -> fireCoalescedSelectedChangeEvent());
+        }
+    }
+
+    private void fireCoalescedSelectedChangeEvent() {
+        Tab previousTab = coalescedPreviousTab;
+        pendingSelectedChangeEvent = null;
+        coalescedPreviousTab = null;
+        if (!Objects.equals(previousTab, selectedTab)) {
+            fireMeasuredEvent(new SelectedChangeEvent(this, previousTab,
+                    coalescedFromClient));
+        }
+    }
+
+    /*
+     * The neighbours are prefetched only for a selection that has been
+     * reported, so a coalesced event doesn't get preceded by prefetch events
+     * for a selection that may still change.
+     */
+    private void fireMeasuredEvent(SelectedChangeEvent event) {
+        if (metrics == null) {
+            fireEvent(event);
         } else {
-            tab.setEnabled(enabled);
+            long start = System.nanoTime();
+            fireEvent(event);
+            metrics.listenersExecuted(this, System.nanoTime() - start);
         }
+        prefetchNeighbours();
     }
 
 }
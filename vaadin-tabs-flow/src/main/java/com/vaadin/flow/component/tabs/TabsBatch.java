@@ -0,0 +1,159 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.tabs;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.dom.Element;
+
+/**
+ * A set of changes applied to a {@link Tabs} component as a single update.
+ * <p>
+ * The operations of a batch modify the children of the {@link Tabs} right
+ * away, but the selection is fixed up only once when the batch ends, firing at
+ * most one {@link Tabs.SelectedChangeEvent}. Instances are available only
+ * inside {@link Tabs#update(java.util.function.Consumer)}.
+ *
+ * @author Vaadin Ltd.
+ */
+public class TabsBatch implements Serializable {
+
+    private final Tabs tabs;
+
+    private Tab selectedTab;
+
+    private boolean selectionChanged;
+
+    TabsBatch(Tabs tabs) {
+        this.tabs = tabs;
+    }
+
+    /**
+     * Adds the given components to the end of the tabs.
+     *
+     * @param components
+     *            the components to add
+     * @return this batch, for chaining
+     */
+    public TabsBatch add(Component... components) {
+        tabs.add(components);
+        return this;
+    }
+
+    /**
+     * Adds the given component at the given index.
+     *
+     * @param index
+     *            the index where the component will be added
+     * @param component
+     *            the component to add
+     * @return this batch, for chaining
+     */
+    public TabsBatch addComponentAtIndex(int index, Component component) {
+        tabs.addComponentAtIndex(index, component);
+        return this;
+    }
+
+    /**
+     * Removes the given components from the tabs.
+     *
+     * @param components
+     *            the components to remove
+     * @return this batch, for chaining
+     */
+    public TabsBatch remove(Component... components) {
+        tabs.remove(components);
+        return this;
+    }
+
+    /**
+     * Removes all components from the tabs.
+     *
+     * @return this batch, for chaining
+     */
+    public TabsBatch removeAll() {
+        tabs.removeAll();
+        return this;
+    }
+
+    /**
+     * Replaces the component in the tabs with another one, keeping its
+     * position.
+     *
+     * @param oldComponent
+     *            the component to be replaced
+     * @param newComponent
+     *            the component to replace with
+     * @return this batch, for chaining
+     */
+    public TabsBatch replace(Component oldComponent, Component newComponent) {
+        tabs.replace(oldComponent, newComponent);
+        return this;
+    }
+
+    /**
+     * Moves a component of the tabs to the given index.
+     * <p>
+     * The component is not removed with {@link Tabs#remove(Component...)}, so
+     * a move is not handled as a removal of the component by subclasses.
+     *
+     * @param component
+     *            the component to move, not {@code null}
+     * @param index
+     *            the index the component should have after the move
+     * @return this batch, for chaining
+     * @throws IllegalArgumentException
+     *             if the component is a child of another component
+     */
+    public TabsBatch move(Component component, int index) {
+        Objects.requireNonNull(component, "Component to move cannot be null");
+        Element parent = component.getElement().getParent();
+        if (tabs.getElement().equals(parent)) {
+            tabs.getElement().removeChild(component.getElement());
+        } else if (parent != null) {
+            throw new IllegalArgumentException(
+                    "The given component (" + component
+                            + ") is not a child of this component");
+        }
+        tabs.addComponentAtIndex(index, component);
+        return this;
+    }
+
+    /**
+     * Sets the tab to select once the batch ends. Without calling this method,
+     * the previously selected tab stays selected if it is still a child of the
+     * tabs.
+     *
+     * @param tab
+     *            the tab to select, {@code null} to unselect all
+     * @return this batch, for chaining
+     */
+    public TabsBatch setSelectedTab(Tab tab) {
+        selectedTab = tab;
+        selectionChanged = true;
+        return this;
+    }
+
+    Tab getSelectedTab() {
+        return selectedTab;
+    }
+
+    boolean isSelectionChanged() {
+        return selectionChanged;
+    }
+}
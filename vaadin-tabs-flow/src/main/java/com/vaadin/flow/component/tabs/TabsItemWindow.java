@@ -0,0 +1,450 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.tabs;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.vaadin.flow.component.ItemLabelGenerator;
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.shared.Registration;
+
+/**
+ * Items of a {@link Tabs} component that are loaded from a
+ * {@link DataProvider}. Only the items inside a window are materialized as
+ * {@link Tab} components; the window moves when the selection gets close to
+ * its edges or when the user scrolls to its edges.
+ * <p>
+ * Instances are created with
+ * {@link Tabs#setItems(DataProvider, ItemLabelGenerator)}. The selection is
+ * kept as an item and its index in the data provider, so it survives the
+ * selected item moving out of the window. While the selected item is outside
+ * of the window, no tab is selected in the {@link Tabs} component and no
+ * {@link Tabs.SelectedChangeEvent} is fired for the window moves.
+ *
+ * @param <T>
+ *            the type of the items
+ * @author Vaadin Ltd.
+ */
+public class TabsItemWindow<T> implements Serializable {
+
+    private static final String EDGE_EVENT = "item-window-edge";
+
+    private final Tabs tabs;
+
+    private final DataProvider<T, ?> dataProvider;
+
+    private final ItemLabelGenerator<T> itemLabelGenerator;
+
+    private int windowSize = 50;
+
+    private int windowStart;
+
+    private int itemCount;
+
+    // The window is restored lazily after deserialization, see
+    // getWindowTabs() and getWindowItems()
+    private transient List<T> windowItems = Collections.emptyList();
+
+    private transient List<Tab> windowTabs = Collections.emptyList();
+
+    private int selectedItemIndex = -1;
+
+    private T selectedItem;
+
+    private final List<Registration> registrations = new ArrayList<>();
+
+    private Registration dataProviderListener;
+
+    TabsItemWindow(Tabs tabs, DataProvider<T, ?> dataProvider,
+            ItemLabelGenerator<T> itemLabelGenerator) {
+        this.tabs = tabs;
+        this.dataProvider = Objects.requireNonNull(dataProvider,
+                "Data provider cannot be null");
+        this.itemLabelGenerator = Objects.requireNonNull(itemLabelGenerator,
+                "Item label generator cannot be null");
+    }
+
+    void bind() {
+        registrations.add(tabs.addSelectedChangeListener(
+                event -> onTabSelected(event.getSelectedTab())));
+        registrations.add(tabs.getElement()
+                .addEventListener(EDGE_EVENT,
+                        event -> onEdgeReached(
+                                event.getEventData().getString("event.detail")))
+                .addEventData("event.detail").debounce(200));
+        registrations.add(tabs.addAttachListener(event -> onAttach()));
+        registrations.add(tabs.addDetachListener(event -> removeDataListener()));
+        if (tabs.isAttached()) {
+            onAttach();
+        }
+        refreshAll();
+        if (tabs.isAutoselect() && itemCount > 0) {
+            setSelectedItemIndex(0);
+        }
+    }
+
+    void unbind() {
+        registrations.forEach(Registration::remove);
+        registrations.clear();
+        removeDataListener();
+    }
+
+    /**
+     * Gets the data provider of the items.
+     *
+     * @return the data provider, not {@code null}
+     */
+    public DataProvider<T, ?> getDataProvider() {
+        return dataProvider;
+    }
+
+    /**
+     * Gets the maximum amount of items materialized as {@link Tab} components
+     * at a time. The default value is 50.
+     *
+     * @return the window size
+     */
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * Sets the maximum amount of items materialized as {@link Tab} components
+     * at a time. The window should be larger than the amount of tabs visible at
+     * once, the rest of the window acts as a buffer for scrolling.
+     *
+     * @param windowSize
+     *            the window size, at least 1
+     */
+    public void setWindowSize(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException(
+                    "Window size must be at least 1");
+        }
+        this.windowSize = windowSize;
+        moveWindow(windowStart, false);
+    }
+
+    /**
+     * Gets the index of the first materialized item.
+     *
+     * @return the index of the first item in the window
+     */
+    public int getWindowStart() {
+        return windowStart;
+    }
+
+    /**
+     * Gets the total amount of items, as reported by the data provider when
+     * the items were last refreshed.
+     *
+     * @return the amount of items
+     */
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    /**
+     * Gets the currently selected item.
+     *
+     * @return the selected item, or an empty optional if none is selected
+     */
+    public Optional<T> getSelectedItem() {
+        return Optional.ofNullable(selectedItem);
+    }
+
+    /**
+     * Gets the index of the currently selected item in the data provider.
+     *
+     * @return the index of the selected item, or -1 if none is selected
+     */
+    public int getSelectedItemIndex() {
+        return selectedItemIndex;
+    }
+
+    /**
+     * Selects the item with the given index, moving the window so that the
+     * item is materialized.
+     *
+     * @param index
+     *            the index of the item to select, -1 to unselect all
+     */
+    public void setSelectedItemIndex(int index) {
+        if (index < 0) {
+            selectedItemIndex = -1;
+            selectedItem = null;
+            tabs.setSelectedTab(null);
+            return;
+        }
+        if (index >= itemCount) {
+            throw new IllegalArgumentException("Item index " + index
+                    + " is out of bounds, item count is " + itemCount);
+        }
+        // Moving the window in the same batch fires a single event, with the
+        // tab selected before the move as the previous tab
+        tabs.update(batch -> {
+            scrollToIndex(index);
+            batch.setSelectedTab(getWindowTabs().get(index - windowStart));
+        });
+    }
+
+    /**
+     * Selects the given item. If the item is outside of the window, the items
+     * of the data provider are fetched one window at a time until the item is
+     * found.
+     *
+     * @param item
+     *            the item to select, {@code null} to unselect all
+     * @throws IllegalArgumentException
+     *             if the data provider doesn't contain the item
+     */
+    public void setSelectedItem(T item) {
+        if (item == null) {
+            setSelectedItemIndex(-1);
+            return;
+        }
+        int index = indexInWindow(item);
+        if (index >= 0) {
+            tabs.setSelectedTab(getWindowTabs().get(index));
+            return;
+        }
+        index = findIndex(item, -1);
+        if (index < 0) {
+            throw new IllegalArgumentException(
+                    "Item to select is not in the data provider: " + item);
+        }
+        setSelectedItemIndex(index);
+    }
+
+    /**
+     * Gets the item a materialized tab represents.
+     *
+     * @param tab
+     *            the tab to get the item for
+     * @return the item of the tab, or an empty optional if the tab is not
+     *         materialized by this window
+     */
+    public Optional<T> getItem(Tab tab) {
+        int index = tab == null ? -1 : tabs.indexOf(tab);
+        if (index < 0 || index >= getWindowTabs().size()
+                || getWindowTabs().get(index) != tab) {
+            return Optional.empty();
+        }
+        return Optional.of(getWindowItems().get(index));
+    }
+
+    /**
+     * Moves the window so that the item with the given index is
+     * materialized. Nothing is done if the item is already inside the window.
+     *
+     * @param index
+     *            the index of the item
+     */
+    public void scrollToIndex(int index) {
+        if (index >= windowStart && index < windowStart + getWindowTabs().size()) {
+            return;
+        }
+        moveWindow(index - windowSize / 2, false);
+    }
+
+    /**
+     * Fetches the item count and the items of the window again from the data
+     * provider. All materialized tabs are recreated.
+     * <p>
+     * The selected item is looked up again, so it stays selected if it has
+     * moved to another index. If the data provider no longer contains it, the
+     * selection is cleared. No {@link Tabs.SelectedChangeEvent} is fired for
+     * the changes made by the refresh.
+     */
+    public void refreshAll() {
+        itemCount = sizeOf();
+        if (selectedItem != null) {
+            selectedItemIndex = findIndex(selectedItem, selectedItemIndex);
+            if (selectedItemIndex < 0) {
+                selectedItem = null;
+            }
+        }
+        moveWindow(windowStart, true);
+        int selectedInWindow = selectedItemIndex - windowStart;
+        if (selectedItemIndex >= 0 && selectedInWindow >= 0
+                && selectedInWindow < windowItems.size()) {
+            // The instance fetched now may have updated data
+            selectedItem = windowItems.get(selectedInWindow);
+        }
+    }
+
+    /*
+     * Looks for the item at the given index first, since refreshes mostly
+     * don't move the items, and then goes through all the items one window
+     * at a time.
+     */
+    private int findIndex(T item, int likelyIndex) {
+        if (likelyIndex >= 0 && likelyIndex < itemCount) {
+            List<T> candidate = fetch(likelyIndex, 1);
+            if (!candidate.isEmpty() && isSame(item, candidate.get(0))) {
+                return likelyIndex;
+            }
+        }
+        for (int offset = 0; offset < itemCount; offset += windowSize) {
+            List<T> page = fetch(offset, windowSize);
+            for (int i = 0; i < page.size(); i++) {
+                if (isSame(item, page.get(i))) {
+                    return offset + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void moveWindow(int start, boolean recreate) {
+        int newStart = Math.max(0, Math.min(start, itemCount - windowSize));
+        List<T> newItems = fetch(newStart, Math.min(windowSize, itemCount));
+        List<Tab> newTabs = new ArrayList<>(newItems.size());
+        for (int i = 0; i < newItems.size(); i++) {
+            int oldIndex = newStart + i - windowStart;
+            if (!recreate && oldIndex >= 0 && oldIndex < getWindowTabs().size()) {
+                newTabs.add(getWindowTabs().get(oldIndex));
+            } else {
+                newTabs.add(new Tab(itemLabelGenerator.apply(newItems.get(i))));
+            }
+        }
+
+        Set<Tab> kept = new HashSet<>(newTabs);
+        List<Tab> removed = getWindowTabs().stream()
+                .filter(tab -> !kept.contains(tab))
+                .collect(Collectors.toList());
+        int selectedInWindow = selectedItemIndex - newStart;
+        Tab tabToSelect = selectedInWindow >= 0
+                && selectedInWindow < newTabs.size()
+                        ? newTabs.get(selectedInWindow)
+                        : null;
+
+        windowStart = newStart;
+        windowItems = newItems;
+        windowTabs = newTabs;
+        tabs.updateWithoutEvent(batch -> {
+            batch.remove(removed.toArray(new Tab[0]));
+            for (int i = 0; i < newTabs.size(); i++) {
+                if (!tabs.getElement()
+                        .equals(newTabs.get(i).getElement().getParent())) {
+                    batch.addComponentAtIndex(i, newTabs.get(i));
+                }
+            }
+            batch.setSelectedTab(tabToSelect);
+        });
+    }
+
+    private void onTabSelected(Tab tab) {
+        int index = tab == null ? -1 : tabs.indexOf(tab);
+        if (index < 0 || index >= getWindowTabs().size()
+                || getWindowTabs().get(index) != tab) {
+            selectedItemIndex = -1;
+            selectedItem = null;
+            return;
+        }
+        selectedItemIndex = windowStart + index;
+        selectedItem = getWindowItems().get(index);
+
+        // Keep a buffer of items around the selection, e.g. when navigating
+        // with the keyboard
+        int buffer = windowSize / 4;
+        if ((index < buffer && windowStart > 0)
+                || (index >= getWindowTabs().size() - buffer
+                        && windowStart + getWindowTabs().size() < itemCount)) {
+            moveWindow(selectedItemIndex - windowSize / 2, false);
+        }
+    }
+
+    private void onEdgeReached(String edge) {
+        int step = Math.max(1, windowSize / 2);
+        if ("start".equals(edge) && windowStart > 0) {
+            moveWindow(windowStart - step, false);
+        } else if ("end".equals(edge)
+                && windowStart + getWindowTabs().size() < itemCount) {
+            moveWindow(windowStart + step, false);
+        }
+    }
+
+    private void onAttach() {
+        tabs.getElement().executeJs(
+                "window.Vaadin.Flow.tabsConnector.initLazy(this);"
+                        + "this.$connector.detectItemWindowEdges();");
+        if (dataProviderListener == null) {
+            dataProviderListener = dataProvider
+                    .addDataProviderListener(event -> refreshAll());
+        }
+    }
+
+    private void removeDataListener() {
+        if (dataProviderListener != null) {
+            dataProviderListener.remove();
+            dataProviderListener = null;
+        }
+    }
+
+    private List<Tab> getWindowTabs() {
+        if (windowTabs == null) {
+            windowTabs = tabs.getChildren().filter(Tab.class::isInstance)
+                    .map(Tab.class::cast).collect(Collectors.toList());
+        }
+        return windowTabs;
+    }
+
+    private List<T> getWindowItems() {
+        if (windowItems == null) {
+            windowItems = fetch(windowStart, getWindowTabs().size());
+        }
+        return windowItems;
+    }
+
+    private int indexInWindow(T item) {
+        for (int i = 0; i < getWindowItems().size(); i++) {
+            if (isSame(item, getWindowItems().get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isSame(T item, T other) {
+        return Objects.equals(dataProvider.getId(item),
+                dataProvider.getId(other));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private List<T> fetch(int offset, int limit) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        return (List<T>) ((DataProvider) dataProvider)
+                .fetch(new Query(offset, limit, null, null, null))
+                .collect(Collectors.toList());
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private int sizeOf() {
+        return ((DataProvider) dataProvider).size(new Query());
+    }
+}
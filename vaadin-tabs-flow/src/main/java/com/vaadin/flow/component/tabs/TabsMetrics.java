@@ -0,0 +1,83 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.tabs;
+
+import java.io.Serializable;
+
+/**
+ * Receives measurements of the selection traffic of {@link Tabs} components.
+ * <p>
+ * Metrics are collected only for the tabs that have been given an
+ * implementation with {@link Tabs#setMetrics(TabsMetrics)}; other tabs don't
+ * measure anything. The methods are called while holding the session lock, so
+ * they should return quickly. All methods do nothing by default.
+ *
+ * @author Vaadin Ltd.
+ * @see MicrometerTabsMetrics
+ */
+public interface TabsMetrics extends Serializable {
+
+    /**
+     * Called when the selected tab of the given tabs has changed.
+     *
+     * @param tabs
+     *            the tabs whose selection changed
+     * @param fromClient
+     *            {@code true} if the selection was changed by the user,
+     *            {@code false} if it was changed on the server
+     */
+    default void selectionChanged(Tabs tabs, boolean fromClient) {
+    }
+
+    /**
+     * Called each time the given tabs checks whether its selected tab has
+     * changed. This happens after every structural change and every change of
+     * the selected index, whether or not the selected tab changes.
+     *
+     * @param tabs
+     *            the tabs checking its selection
+     */
+    default void selectionUpdated(Tabs tabs) {
+    }
+
+    /**
+     * Called when the server has rejected a selection of a disabled tab.
+     * <p>
+     * Selections of disabled tabs made by the user in the browser are reverted
+     * there, and they are never sent to the server, so this method is not
+     * called for them. It's only called when the selection reaches the
+     * server, i.e. when a disabled tab is selected on the server or when the
+     * check of the browser has been bypassed. A count of the attempts made by
+     * users is not available.
+     *
+     * @param tabs
+     *            the tabs where the selection was rejected
+     */
+    default void disabledSelectionRejected(Tabs tabs) {
+    }
+
+    /**
+     * Called after the selected change listeners of the given tabs have been
+     * run for one {@link Tabs.SelectedChangeEvent}.
+     *
+     * @param tabs
+     *            the tabs that fired the event
+     * @param nanos
+     *            the time it took to run the listeners, in nanoseconds
+     */
+    default void listenersExecuted(Tabs tabs, long nanos) {
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.tabs;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.function.SerializableFunction;
+
+/**
+ * Theme variant state of a component, kept as an {@link EnumSet}. The
+ * {@code theme} attribute is written only when the set of variants changes,
+ * and at most once per change. Theme names that are not variants are kept as
+ * they are.
+ *
+ * @param <E>
+ *            the type of the variants
+ * @author Vaadin Ltd.
+ */
+class ThemeVariants<E extends Enum<E>> implements Serializable {
+
+    private static final String THEME_ATTRIBUTE = "theme";
+
+    private final Class<E> variantType;
+
+    private final SerializableFunction<E, String> variantName;
+
+    private final EnumSet<E> variants;
+
+    // The attribute value the variants were last synced with
+    private String themeAttribute;
+
+    ThemeVariants(Class<E> variantType,
+            SerializableFunction<E, String> variantName) {
+        this.variantType = variantType;
+        this.variantName = variantName;
+        variants = EnumSet.noneOf(variantType);
+    }
+
+    EnumSet<E> get(Element element) {
+        sync(element);
+        return EnumSet.copyOf(variants);
+    }
+
+    void add(Element element, E[] added) {
+        sync(element);
+        if (variants.containsAll(Arrays.asList(added))) {
+            return;
+        }
+        EnumSet<E> newVariants = EnumSet.copyOf(variants);
+        Collections.addAll(newVariants, added);
+        set(element, newVariants);
+    }
+
+    void remove(Element element, E[] removed) {
+        sync(element);
+        if (Collections.disjoint(variants, Arrays.asList(removed))) {
+            return;
+        }
+        EnumSet<E> newVariants = EnumSet.copyOf(variants);
+        newVariants.removeAll(Arrays.asList(removed));
+        set(element, newVariants);
+    }
+
+    void set(Element element, Set<E> newVariants) {
+        Objects.requireNonNull(newVariants, "Variants cannot be null");
+        sync(element);
+        if (variants.equals(newVariants)) {
+            return;
+        }
+
+        Set<String> removedNames = new HashSet<>();
+        for (E variant : variants) {
+            if (!newVariants.contains(variant)) {
+                removedNames.add(variantName.apply(variant));
+            }
+        }
+        List<String> themeNames = new ArrayList<>();
+        for (String themeName : getThemeNames(element)) {
+            if (!removedNames.contains(themeName)) {
+                themeNames.add(themeName);
+            }
+        }
+        for (E variant : newVariants) {
+            String name = variantName.apply(variant);
+            if (!themeNames.contains(name)) {
+                themeNames.add(name);
+            }
+        }
+
+        if (themeNames.isEmpty()) {
+            element.removeAttribute(THEME_ATTRIBUTE);
+        } else {
+            element.setAttribute(THEME_ATTRIBUTE,
+                    String.join(" ", themeNames));
+        }
+        variants.clear();
+        variants.addAll(newVariants);
+        themeAttribute = element.getAttribute(THEME_ATTRIBUTE);
+    }
+
+    /*
+     * Theme names may also be changed directly through the element or
+     * HasTheme, in which case the variants are parsed again.
+     */
+    private void sync(Element element) {
+        String attribute = element.getAttribute(THEME_ATTRIBUTE);
+        if (Objects.equals(attribute, themeAttribute)) {
+            return;
+        }
+        List<String> themeNames = getThemeNames(element);
+        variants.clear();
+        for (E variant : variantType.getEnumConstants()) {
+            if (themeNames.contains(variantName.apply(variant))) {
+                variants.add(variant);
+            }
+        }
+        themeAttribute = attribute;
+    }
+
+    private static List<String> getThemeNames(Element element) {
+        String attribute = element.getAttribute(THEME_ATTRIBUTE);
+        List<String> themeNames = new ArrayList<>();
+        if (attribute != null) {
+            for (String themeName : attribute.split("\\s+")) {
+                if (!themeName.isEmpty()) {
+                    themeNames.add(themeName);
+                }
+            }
+        }
+        return themeNames;
+    }
+}
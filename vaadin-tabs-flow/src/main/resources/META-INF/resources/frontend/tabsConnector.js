@@ -0,0 +1,139 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+(function () {
+  window.Vaadin.Flow.tabsConnector = {
+    initLazy: function (tabs) {
+      // Listeners are registered only once per element, even if the
+      // component is attached again
+      if (tabs.$connector) {
+        return;
+      }
+      tabs.$connector = {};
+
+      let selectedItem;
+      let selectedItemSynced = false;
+      let itemsChangedTimeout;
+
+      /*
+       * Tells the server about selection changes caused by the items changing
+       * on the client, e.g. when tabs are added with the Element API. The
+       * server keeps the selected index in sync with its own changes, so the
+       * server is called only if the selected index points to another item
+       * than before.
+       */
+      const syncSelectedItem = function (notifyServer) {
+        const item = tabs.items ? tabs.items[tabs.selected] : undefined;
+        if (notifyServer && selectedItemSynced && item !== selectedItem) {
+          tabs.$server.updateSelectedTab(true);
+        }
+        selectedItem = item;
+        selectedItemSynced = true;
+      };
+
+      tabs.addEventListener('items-changed', function () {
+        clearTimeout(itemsChangedTimeout);
+        itemsChangedTimeout = setTimeout(function () {
+          syncSelectedItem(true);
+        }, 100);
+      });
+
+      // The last selected index pointing to an enabled tab
+      let allowedSelected = tabs.selected;
+      tabs.$connector.selectionRejected = false;
+
+      /*
+       * Reverts selections of disabled tabs right away. While reverting, the
+       * selection changes are not sent to the server (see Tabs.java), so the
+       * attempt doesn't cause any traffic.
+       */
+      tabs.addEventListener('selected-changed', function () {
+        if (tabs.$connector.selectionRejected) {
+          return;
+        }
+        const item = tabs.items ? tabs.items[tabs.selected] : undefined;
+        if (item && item.disabled) {
+          tabs.$connector.selectionRejected = true;
+          try {
+            tabs.selected = allowedSelected;
+          } finally {
+            tabs.$connector.selectionRejected = false;
+          }
+          return;
+        }
+        allowedSelected = tabs.selected;
+        setTimeout(function () {
+          syncSelectedItem(false);
+        });
+      });
+
+      /*
+       * Replaces the tabs rendered from the 'tabDescriptors' property with tabs
+       * for its current value. The tabs have to be direct children, since
+       * vaadin-tabs only uses those as items. They are marked so that only
+       * they are removed again; the server doesn't allow child components
+       * while descriptors are set, so Flow doesn't manage any children next
+       * to them.
+       */
+      tabs.$connector.renderTabDescriptors = function () {
+        Array.from(tabs.children).forEach(function (child) {
+          if (child.hasAttribute('data-tab-descriptor')) {
+            tabs.removeChild(child);
+          }
+        });
+        (tabs.tabDescriptors || []).forEach(function (descriptor) {
+          const tab = document.createElement('vaadin-tab');
+          tab.setAttribute('data-tab-descriptor', descriptor.value);
+          tab.textContent = descriptor.label;
+          tab.disabled = !descriptor.enabled;
+          if (descriptor.theme) {
+            tab.setAttribute('theme', descriptor.theme);
+          }
+          tabs.appendChild(tab);
+        });
+      };
+
+      /*
+       * Fires an 'item-window-edge' event when the tabs are scrolled close to
+       * the start or the end, so that the server can materialize more items.
+       */
+      tabs.$connector.detectItemWindowEdges = function () {
+        if (tabs.$connector.itemWindowScrollListener) {
+          return;
+        }
+        const scroller = tabs.shadowRoot && tabs.shadowRoot.querySelector('[part="tabs"]');
+        if (!scroller) {
+          return;
+        }
+        tabs.$connector.itemWindowScrollListener = function () {
+          const vertical = tabs.orientation === 'vertical';
+          const position = vertical ? scroller.scrollTop : scroller.scrollLeft;
+          const size = vertical ? scroller.clientHeight : scroller.clientWidth;
+          const total = vertical ? scroller.scrollHeight : scroller.scrollWidth;
+          let edge = null;
+          if (position < size) {
+            edge = 'start';
+          } else if (position + 2 * size > total) {
+            edge = 'end';
+          }
+          if (edge) {
+            tabs.dispatchEvent(new CustomEvent('item-window-edge', { detail: edge }));
+          }
+        };
+        scroller.addEventListener('scroll', tabs.$connector.itemWindowScrollListener);
+      };
+    }
+  };
+})();
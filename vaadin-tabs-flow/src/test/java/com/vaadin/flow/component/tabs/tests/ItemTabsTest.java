@@ -0,0 +1,162 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.tabs.tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.component.AbstractField.ComponentValueChangeEvent;
+import com.vaadin.flow.component.tabs.ItemTabs;
+import com.vaadin.flow.component.tabs.Tab;
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.internal.nodefeature.ElementPropertyMap;
+
+/**
+ * @author Vaadin Ltd.
+ */
+public class ItemTabsTest {
+
+    private ItemTabs<Integer> tabs;
+    private List<ComponentValueChangeEvent<ItemTabs<Integer>, Integer>> events;
+
+    @Before
+    public void init() {
+        tabs = new ItemTabs<>();
+        tabs.setItemLabelGenerator(item -> "Item " + item);
+        tabs.setItems(Arrays.asList(1, 2, 3));
+        events = new ArrayList<>();
+        tabs.addValueChangeListener(events::add);
+    }
+
+    @Test
+    public void setItems_tabsCreated_firstItemSelected() {
+        Assert.assertEquals(3, tabs.getComponentCount());
+        Assert.assertEquals(Integer.valueOf(1), tabs.getValue());
+        Assert.assertEquals("Item 2", tabs.getTab(2).get().getLabel());
+        Assert.assertEquals(Integer.valueOf(3),
+                tabs.getItem((Tab) tabs.getComponentAt(2)).get());
+    }
+
+    @Test
+    public void setValue_tabSelected_valueChangeEventFired() {
+        tabs.setValue(3);
+
+        Assert.assertEquals(tabs.getTab(3).get(), tabs.getSelectedTab());
+        Assert.assertEquals(1, events.size());
+        Assert.assertEquals(Integer.valueOf(1), events.get(0).getOldValue());
+        Assert.assertEquals(Integer.valueOf(3), events.get(0).getValue());
+        Assert.assertFalse(events.get(0).isFromClient());
+    }
+
+    @Test
+    public void setItems_selectedItemKept() {
+        tabs.setValue(2);
+        events.clear();
+
+        tabs.setItems(Arrays.asList(4, 2));
+
+        Assert.assertEquals(Integer.valueOf(2), tabs.getValue());
+        Assert.assertEquals(1, tabs.getSelectedIndex());
+        Assert.assertTrue(events.isEmpty());
+        Assert.assertFalse(tabs.getTab(1).isPresent());
+    }
+
+    @Test
+    public void removeTab_itemForgotten() {
+        Tab tab = tabs.getTab(3).get();
+        tabs.remove(tab);
+
+        Assert.assertFalse(tabs.getTab(3).isPresent());
+        Assert.assertFalse(tabs.getItem(tab).isPresent());
+    }
+
+    @Test
+    public void moveTabInBatch_itemKept() {
+        tabs.setValue(3);
+        events.clear();
+        Tab tab = tabs.getTab(3).get();
+
+        tabs.update(batch -> batch.move(tab, 0));
+
+        Assert.assertEquals(0, tabs.indexOf(tab));
+        Assert.assertEquals(tab, tabs.getSelectedTab());
+        Assert.assertEquals(Integer.valueOf(3), tabs.getValue());
+        Assert.assertEquals(tab, tabs.getTab(3).get());
+        Assert.assertEquals(Integer.valueOf(3), tabs.getItem(tab).get());
+        Assert.assertTrue(events.isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setUnknownValue_throws() {
+        tabs.setValue(42);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addDuplicateItem_throws() {
+        tabs.addItem(1);
+    }
+
+    @Test
+    public void clientSelection_valueChangeEventFromClient() throws Exception {
+        selectFromClient(2);
+
+        Assert.assertEquals(Integer.valueOf(3), tabs.getValue());
+        Assert.assertEquals(1, events.size());
+        Assert.assertTrue(events.get(0).isFromClient());
+    }
+
+    @Test
+    public void readOnly_clientSelection_selectionReverted() throws Exception {
+        tabs.setReadOnly(true);
+
+        selectFromClient(2);
+
+        Assert.assertEquals(Integer.valueOf(1), tabs.getValue());
+        Assert.assertEquals(0, tabs.getSelectedIndex());
+        Assert.assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void readOnly_setValue_valueChanged() {
+        tabs.setReadOnly(true);
+
+        tabs.setValue(2);
+
+        Assert.assertEquals(Integer.valueOf(2), tabs.getValue());
+        Assert.assertEquals(1, events.size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void setDataProviderItems_throws() {
+        tabs.setItems(DataProvider.ofItems(4, 5), item -> "Item " + item);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void setKeyedItems_throws() {
+        tabs.setItems(Arrays.asList(4, 5), item -> item,
+                item -> new Tab("Item " + item));
+    }
+
+    private void selectFromClient(int index) throws Exception {
+        tabs.getElement().getNode().getFeature(ElementPropertyMap.class)
+                .deferredUpdateFromClient("selected", (double) index).run();
+    }
+}
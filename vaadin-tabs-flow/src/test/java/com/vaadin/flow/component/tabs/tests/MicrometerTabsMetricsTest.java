@@ -0,0 +1,78 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.tabs.tests;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.component.tabs.MicrometerTabsMetrics;
+import com.vaadin.flow.component.tabs.Tab;
+import com.vaadin.flow.component.tabs.Tabs;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @author Vaadin Ltd.
+ */
+public class MicrometerTabsMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private Tabs tabs;
+    private Tab tab1;
+    private Tab tab2;
+
+    @Before
+    public void init() {
+        registry = new SimpleMeterRegistry();
+        tab1 = new Tab("foo");
+        tab2 = new Tab("bar");
+        tabs = new Tabs(tab1, tab2);
+        tabs.setMetrics(new MicrometerTabsMetrics(() -> registry, "view",
+                "main"));
+        tabs.addSelectedChangeListener(event -> {
+        });
+    }
+
+    @Test
+    public void selectionChanged_serverSourceCounted_listenersTimed() {
+        tabs.setSelectedTab(tab2);
+
+        Assert.assertEquals(1, registry.get("vaadin.tabs.selection.changes")
+                .tags("view", "main", "source", "server").counter().count(),
+                0);
+        Assert.assertEquals(1, registry.get("vaadin.tabs.selection.listeners")
+                .tag("view", "main").timer().count());
+    }
+
+    @Test
+    public void disabledTabSelected_rejectionCounted() {
+        tab2.setEnabled(false);
+        tabs.setSelectedIndex(1);
+
+        Assert.assertEquals(tab1, tabs.getSelectedTab());
+        Assert.assertEquals(1, registry.get("vaadin.tabs.selection.rejected")
+                .counter().count(), 0);
+    }
+
+    @Test
+    public void metricsNotSet_nothingPublished() {
+        tabs.setMetrics(null);
+        tabs.setSelectedTab(tab2);
+
+        Assert.assertTrue(registry.getMeters().isEmpty());
+    }
+}
@@ -16,14 +16,22 @@
 
 package com.vaadin.flow.component.tabs.tests;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.tabs.Tab;
 import com.vaadin.flow.component.tabs.Tabs;
+import com.vaadin.flow.server.Command;
+import com.vaadin.flow.server.VaadinSession;
 
 /**
  * @author Vaadin Ltd.
@@ -36,6 +44,38 @@ public class SelectionEventTest {
 
     private int eventCount;
 
+    /*
+     * Runs the commands passed to UI.access right away in the calling thread.
+     */
+    private static class ImmediateAccessSession extends VaadinSession {
+
+        private int accessCount;
+
+        private ImmediateAccessSession() {
+            super(null);
+        }
+
+        @Override
+        public boolean hasLock() {
+            return true;
+        }
+
+        @Override
+        public void lock() {
+        }
+
+        @Override
+        public void unlock() {
+        }
+
+        @Override
+        public Future<Void> access(Command command) {
+            accessCount++;
+            command.execute();
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
     @Before
     public void init() {
         tab1 = new Tab("foo");
@@ -357,4 +397,236 @@ public class SelectionEventTest {
                 eventCount);
     }
 
+    @Test
+    public void updateWithoutChangingSelectedTab_noEvent() {
+        Tab tab3 = new Tab("baz");
+        tabs.update(batch -> batch.addComponentAtIndex(0, new Tab())
+                .add(tab3).remove(tab2).move(tab3, 0));
+
+        Assert.assertEquals(
+                "Selection event should not have been fired when the selected tab was kept",
+                0, eventCount);
+        Assert.assertEquals(tab1, tabs.getSelectedTab());
+        Assert.assertEquals(2, tabs.getSelectedIndex());
+    }
+
+    @Test
+    public void updateRemovingSelectedTab_singleEventFired() {
+        tabs.update(batch -> {
+            batch.remove(tab1);
+            batch.addComponentAtIndex(0, new Tab("first"));
+            batch.remove(tab2);
+            batch.add(new Tab("second"));
+        });
+
+        Assert.assertEquals(
+                "Only one selection event should have been fired for the update",
+                1, eventCount);
+        Assert.assertEquals("first", tabs.getSelectedTab().getLabel());
+    }
+
+    @Test
+    public void updateWithSelection_singleEventFired() {
+        Tab tab3 = new Tab("baz");
+        tabs.update(batch -> batch.add(tab3).setSelectedTab(tab3));
+
+        Assert.assertEquals(1, eventCount);
+        Assert.assertEquals(tab3, tabs.getSelectedTab());
+        Assert.assertTrue(tab3.isSelected());
+        Assert.assertFalse(tab1.isSelected());
+    }
+
+    @Test
+    public void updateEmptyTabs_firstTabAutoselected() {
+        tabs = new Tabs();
+        addSelectedChangeListener(tabs);
+
+        tabs.update(batch -> batch.add(tab1, tab2));
+
+        Assert.assertEquals(1, eventCount);
+        Assert.assertEquals(tab1, tabs.getSelectedTab());
+    }
+
+    @Test
+    public void updateThrows_selectionFixedUpForAppliedChanges() {
+        tabs.setSelectedTab(tab2);
+        eventCount = 0;
+
+        try {
+            tabs.update(batch -> {
+                batch.remove(tab1);
+                throw new IllegalStateException("Failed in the middle");
+            });
+            Assert.fail("The exception should have been rethrown");
+        } catch (IllegalStateException expected) {
+            // expected
+        }
+
+        Assert.assertEquals(1, tabs.getComponentCount());
+        Assert.assertEquals(0, tabs.getSelectedIndex());
+        Assert.assertEquals(tab2, tabs.getSelectedTab());
+        Assert.assertTrue(tab2.isSelected());
+        Assert.assertEquals(0, eventCount);
+
+        tabs.add(tab1);
+        tabs.setSelectedTab(tab1);
+        Assert.assertFalse("The previous selection should have been cleared",
+                tab2.isSelected());
+        Assert.assertEquals(1, eventCount);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void updateSelectingNonChildTab_throws() {
+        tabs.update(batch -> batch.setSelectedTab(new Tab()));
+    }
+
+    @Test
+    public void coalescedEvents_singleEventFiredBeforeResponse() {
+        UI ui = new UI();
+        ui.add(tabs);
+        tabs.setSelectionEventsCoalesced(true);
+        AtomicReference<Tabs.SelectedChangeEvent> event = new AtomicReference<>();
+        tabs.addSelectedChangeListener(event::set);
+
+        Tab tab3 = new Tab("baz");
+        tabs.remove(tab1);
+        tabs.add(tab3);
+        tabs.setSelectedTab(tab3);
+        Assert.assertEquals(0, eventCount);
+
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+        Assert.assertEquals(1, eventCount);
+        Assert.assertEquals(tab1, event.get().getPreviousTab());
+        Assert.assertEquals(tab3, event.get().getSelectedTab());
+    }
+
+    @Test
+    public void coalescedEvents_selectionRestored_noEventFired() {
+        UI ui = new UI();
+        ui.add(tabs);
+        tabs.setSelectionEventsCoalesced(true);
+
+        tabs.setSelectedTab(tab2);
+        tabs.setSelectedTab(tab1);
+
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+        Assert.assertEquals(0, eventCount);
+    }
+
+    @Test
+    public void coalescedEvents_notAttached_eventFiredSynchronously() {
+        tabs.setSelectionEventsCoalesced(true);
+
+        tabs.setSelectedTab(tab2);
+        Assert.assertEquals(1, eventCount);
+    }
+
+    @Test
+    public void asyncListener_notAttached_resultAppliedSynchronously() {
+        AtomicReference<String> result = new AtomicReference<>();
+        tabs.addAsyncSelectedChangeListener(event -> "loaded",
+                (event, value) -> result.set(value));
+
+        tabs.setSelectedTab(tab2);
+        Assert.assertEquals("loaded", result.get());
+    }
+
+    @Test
+    public void asyncListener_attached_taskRunWithExecutor() {
+        UI ui = new UI();
+        ui.add(tabs);
+        List<Runnable> tasks = new ArrayList<>();
+        tabs.setAsyncListenerExecutor(tasks::add);
+        AtomicReference<String> result = new AtomicReference<>();
+        tabs.addAsyncSelectedChangeListener(event -> "loaded",
+                (event, value) -> result.set(value));
+
+        tabs.setSelectedTab(tab2);
+        Assert.assertEquals(1, tasks.size());
+        Assert.assertNull(result.get());
+    }
+
+    @Test
+    public void asyncListener_resultAppliedThroughUiAccess() {
+        UI ui = new UI();
+        ImmediateAccessSession session = new ImmediateAccessSession();
+        ui.getInternals().setSession(session);
+        ui.add(tabs);
+        List<Runnable> tasks = new ArrayList<>();
+        tabs.setAsyncListenerExecutor(tasks::add);
+        AtomicReference<UI> handlerUI = new AtomicReference<>();
+        AtomicReference<Tab> appliedTab = new AtomicReference<>();
+        tabs.addAsyncSelectedChangeListener(event -> "loaded",
+                (event, value) -> {
+                    handlerUI.set(UI.getCurrent());
+                    appliedTab.set(event.getSelectedTab());
+                });
+
+        tabs.setSelectedTab(tab2);
+        tasks.forEach(Runnable::run);
+
+        Assert.assertEquals(1, session.accessCount);
+        Assert.assertSame("Result should be applied while the UI is locked",
+                ui, handlerUI.get());
+        Assert.assertEquals(tab2, appliedTab.get());
+    }
+
+    @Test
+    public void asyncListener_selectionChangedBeforeResult_staleResultDiscarded() {
+        UI ui = new UI();
+        ImmediateAccessSession session = new ImmediateAccessSession();
+        ui.getInternals().setSession(session);
+        ui.add(tabs);
+        List<Runnable> tasks = new ArrayList<>();
+        tabs.setAsyncListenerExecutor(tasks::add);
+        List<Tab> appliedTabs = new ArrayList<>();
+        tabs.addAsyncSelectedChangeListener(event -> "loaded",
+                (event, value) -> appliedTabs.add(event.getSelectedTab()));
+
+        tabs.setSelectedTab(tab2);
+        tabs.setSelectedTab(tab1);
+        tasks.forEach(Runnable::run);
+
+        Assert.assertEquals(2, session.accessCount);
+        Assert.assertEquals(
+                "Only the result for the current selection should be applied",
+                1, appliedTabs.size());
+        Assert.assertEquals(tab1, appliedTabs.get(0));
+    }
+
+    @Test
+    public void asyncListener_defaultExecutorIsNotCommonPool() {
+        Assert.assertNotSame(ForkJoinPool.commonPool(),
+                tabs.getAsyncListenerExecutor());
+    }
+
+    @Test
+    public void selectionSyncDelayChanged_serverSideEventsFiredOnce() {
+        tabs.setSelectionSyncDelay(300);
+        tabs.setSelectedTab(tab2);
+        Assert.assertEquals(1, eventCount);
+
+        tabs.setSelectionSyncDelay(0);
+        tabs.setSelectedTab(tab1);
+        Assert.assertEquals(2, eventCount);
+        Assert.assertEquals(0, tabs.getSelectionSyncDelay());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeSelectionSyncDelay_throws() {
+        tabs.setSelectionSyncDelay(-1);
+    }
+
+    @Test
+    public void selectDisabledTab_selectionRejected_noEventFired() {
+        tab2.setEnabled(false);
+
+        tabs.setSelectedIndex(1);
+
+        Assert.assertEquals(0, eventCount);
+        Assert.assertEquals(0, tabs.getSelectedIndex());
+        Assert.assertTrue(tab1.isSelected());
+        Assert.assertFalse(tab2.isSelected());
+        Assert.assertFalse(tab2.isEnabled());
+    }
 }
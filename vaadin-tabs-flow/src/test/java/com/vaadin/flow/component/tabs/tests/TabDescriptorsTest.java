@@ -0,0 +1,120 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.tabs.tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.component.tabs.Tab;
+import com.vaadin.flow.component.tabs.TabDescriptor;
+import com.vaadin.flow.component.tabs.Tabs;
+
+/**
+ * @author Vaadin Ltd.
+ */
+public class TabDescriptorsTest {
+
+    private Tabs tabs;
+    private List<Tabs.SelectedValueChangeEvent> events;
+
+    @Before
+    public void init() {
+        tabs = new Tabs();
+        events = new ArrayList<>();
+        tabs.addSelectedValueChangeListener(events::add);
+        tabs.setTabDescriptors(Arrays.asList(
+                new TabDescriptor("home", "Home"),
+                new TabDescriptor("admin", "Admin", false, null),
+                new TabDescriptor("about", "About", true, "small")));
+    }
+
+    @Test
+    public void setTabDescriptors_singlePropertyNoChildren_firstSelected() {
+        Assert.assertEquals(0, tabs.getComponentCount());
+        Assert.assertEquals(3, tabs.getTabDescriptors().size());
+        Assert.assertEquals("home", tabs.getSelectedValue());
+        Assert.assertNull(tabs.getSelectedTab());
+        Assert.assertEquals(1, events.size());
+        Assert.assertNull(events.get(0).getPreviousValue());
+    }
+
+    @Test
+    public void setSelectedValue_eventFiredWithValues() {
+        tabs.setSelectedValue("about");
+
+        Assert.assertEquals(2, tabs.getSelectedIndex());
+        Assert.assertEquals(2, events.size());
+        Assert.assertEquals("home", events.get(1).getPreviousValue());
+        Assert.assertEquals("about", events.get(1).getSelectedValue());
+    }
+
+    @Test
+    public void selectDisabledDescriptor_selectionRejected() {
+        tabs.setSelectedIndex(1);
+
+        Assert.assertEquals("home", tabs.getSelectedValue());
+        Assert.assertEquals(0, tabs.getSelectedIndex());
+        Assert.assertEquals(1, events.size());
+    }
+
+    @Test
+    public void setNewDescriptors_selectedValueKept() {
+        tabs.setSelectedValue("about");
+        tabs.setTabDescriptors(Arrays.asList(
+                new TabDescriptor("about", "About"),
+                new TabDescriptor("home", "Home")));
+
+        Assert.assertEquals("about", tabs.getSelectedValue());
+        Assert.assertEquals(0, tabs.getSelectedIndex());
+        Assert.assertEquals(2, events.size());
+    }
+
+    @Test
+    public void clearDescriptors_componentsCanBeUsedAgain() {
+        tabs.setTabDescriptors(null);
+        Tab tab = new Tab("Tab");
+        tabs.add(tab);
+
+        Assert.assertNull(tabs.getSelectedValue());
+        Assert.assertEquals(tab, tabs.getSelectedTab());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setUnknownValue_throws() {
+        tabs.setSelectedValue("unknown");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void addComponentWhileDescriptorsSet_throws() {
+        tabs.add(new Tab("Tab"));
+    }
+
+    @Test
+    public void setKeyedItems_descriptorsCleared() {
+        tabs.setItems(Arrays.asList("a", "b"), item -> item, Tab::new);
+
+        Assert.assertTrue(tabs.getTabDescriptors().isEmpty());
+        Assert.assertNull(tabs.getSelectedValue());
+        Assert.assertEquals(2, tabs.getComponentCount());
+        Assert.assertEquals("a", tabs.getSelectedTab().getLabel());
+        Assert.assertNull(tabs.getElement().getPropertyRaw("tabDescriptors"));
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.tabs.tests;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.tabs.Tab;
+import com.vaadin.flow.component.tabs.TabPages;
+import com.vaadin.flow.component.tabs.Tabs;
+
+/**
+ * @author Vaadin Ltd.
+ */
+public class TabPagesTest {
+
+    @Tag("div")
+    private static class Page extends Component {
+    }
+
+    private Tab tab1;
+    private Tab tab2;
+    private Tab tab3;
+    private Tabs tabs;
+    private TabPages pages;
+
+    private AtomicInteger createdPages = new AtomicInteger();
+
+    @Before
+    public void init() {
+        tab1 = new Tab("foo");
+        tab2 = new Tab("bar");
+        tab3 = new Tab("baz");
+        tabs = new Tabs(tab1, tab2, tab3);
+        pages = new TabPages(tabs);
+        pages.add(tab1, this::createPage);
+        pages.add(tab2, this::createPage);
+        pages.add(tab3, this::createPage);
+    }
+
+    private Component createPage() {
+        createdPages.incrementAndGet();
+        return new Page();
+    }
+
+    @Test
+    public void onlySelectedPageIsCreated() {
+        Assert.assertEquals(1, createdPages.get());
+        Assert.assertTrue(pages.getPage(tab1).isPresent());
+        Assert.assertFalse(pages.getPage(tab2).isPresent());
+        Assert.assertEquals(1, pages.getElement().getChildCount());
+    }
+
+    @Test
+    public void selectTab_pageCreatedOnce_previousPageHidden() {
+        tabs.setSelectedTab(tab2);
+        tabs.setSelectedTab(tab1);
+        tabs.setSelectedTab(tab2);
+
+        Assert.assertEquals(2, createdPages.get());
+        Assert.assertTrue(pages.getPage(tab2).get().isVisible());
+        Assert.assertFalse(pages.getPage(tab1).get().isVisible());
+    }
+
+    @Test
+    public void maxCachedPages_leastRecentlySelectedPageEvicted() {
+        pages.setMaxCachedPages(2);
+        tabs.setSelectedTab(tab2);
+        tabs.setSelectedTab(tab3);
+
+        Assert.assertFalse(pages.getPage(tab1).isPresent());
+        Assert.assertTrue(pages.getPage(tab2).isPresent());
+        Assert.assertTrue(pages.getPage(tab3).isPresent());
+        Assert.assertEquals(2, pages.getElement().getChildCount());
+
+        tabs.setSelectedTab(tab1);
+        Assert.assertEquals("Evicted page should have been created again", 4,
+                createdPages.get());
+        Assert.assertFalse(pages.getPage(tab2).isPresent());
+    }
+
+    @Test
+    public void maxEstimatedBytes_pagesEvictedUntilUnderBudget() {
+        pages.setPageSizeEstimator(page -> 100L);
+        pages.setMaxEstimatedBytes(150);
+        tabs.setSelectedTab(tab2);
+
+        // The page of tab1 was created before setting the estimator
+        Assert.assertTrue(pages.getPage(tab1).isPresent());
+        Assert.assertTrue(pages.getPage(tab2).isPresent());
+
+        tabs.setSelectedTab(tab3);
+        Assert.assertFalse(pages.getPage(tab1).isPresent());
+        Assert.assertFalse(pages.getPage(tab2).isPresent());
+        Assert.assertTrue(pages.getPage(tab3).isPresent());
+    }
+
+    @Test
+    public void pageStateHandler_stateRestoredToRecreatedPage() {
+        AtomicInteger restoredState = new AtomicInteger();
+        pages.setPageStateHandler(new TabPages.PageStateHandler() {
+            @Override
+            public Serializable saveState(Tab tab, Component page) {
+                return tab.getLabel();
+            }
+
+            @Override
+            public void restoreState(Tab tab, Component page,
+                    Serializable state) {
+                Assert.assertEquals(tab.getLabel(), state);
+                restoredState.incrementAndGet();
+            }
+        });
+        pages.setMaxCachedPages(1);
+        tabs.setSelectedTab(tab2);
+        Assert.assertEquals(0, restoredState.get());
+
+        tabs.setSelectedTab(tab1);
+        Assert.assertEquals(1, restoredState.get());
+    }
+
+    @Test
+    public void tabRemoved_pageAndFactoryDroppedOnNextSelection() {
+        tabs.setSelectedTab(tab2);
+        // Selects tab3
+        tabs.remove(tab2);
+
+        Assert.assertFalse(pages.getPage(tab2).isPresent());
+        Assert.assertEquals(2, pages.getElement().getChildCount());
+
+        tabs.add(tab2);
+        tabs.setSelectedTab(tab2);
+        Assert.assertFalse("Factory of the removed tab should be dropped",
+                pages.getPage(tab2).isPresent());
+    }
+
+    @Test
+    public void attached_tabRemoved_pageDroppedBeforeResponse() {
+        UI ui = new UI();
+        ui.add(tabs, pages);
+        tabs.setSelectedTab(tab2);
+        tabs.setSelectedTab(tab1);
+
+        tabs.remove(tab2);
+        Assert.assertTrue(pages.getPage(tab2).isPresent());
+
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+        Assert.assertFalse(pages.getPage(tab2).isPresent());
+        Assert.assertEquals(1, pages.getElement().getChildCount());
+    }
+
+    @Test
+    public void attached_tabMoved_pageKept() {
+        UI ui = new UI();
+        ui.add(tabs, pages);
+        tabs.setSelectedTab(tab2);
+
+        tabs.addComponentAsFirst(tab2);
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+
+        Assert.assertTrue(pages.getPage(tab2).isPresent());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addPageForTabNotInTabs_throws() {
+        pages.add(new Tab("qux"), this::createPage);
+    }
+
+    @Test
+    public void unbind_pagesRemoved_selectionNoLongerFollowed() {
+        pages.unbind();
+        Assert.assertEquals(0, pages.getElement().getChildCount());
+
+        tabs.setSelectedTab(tab2);
+        Assert.assertEquals(1, createdPages.get());
+        Assert.assertEquals(0, pages.getElement().getChildCount());
+    }
+}
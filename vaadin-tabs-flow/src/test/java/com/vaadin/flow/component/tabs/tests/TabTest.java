@@ -16,9 +16,13 @@
 
 package com.vaadin.flow.component.tabs.tests;
 
+import java.util.EnumSet;
+
 import org.junit.Test;
 
+import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.tabs.Tab;
+import com.vaadin.flow.component.tabs.TabVariant;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.*;
@@ -58,4 +62,57 @@ public class TabTest {
         assertThat("flexGrow is invalid", tab.getFlexGrow(),
                 is(1.0));
     }
+
+    @Test
+    public void shouldWriteFlexGrowStyle() throws Exception {
+        tab.setFlexGrow(2);
+        assertThat("flexGrow style is invalid",
+                tab.getElement().getStyle().get("flexGrow"), is("2.0"));
+
+        tab.setFlexGrow(0);
+        assertThat("flexGrow 0 should be written to opt out",
+                tab.getElement().getStyle().get("flexGrow"), is("0.0"));
+        assertThat("flexGrow is invalid", tab.getFlexGrow(), is(0.0));
+    }
+
+    @Test
+    public void shouldRemoveFlexGrowStyleWhenCleared() throws Exception {
+        tab.setFlexGrow(2);
+
+        tab.clearFlexGrow();
+
+        assertNull("flexGrow style should have been removed",
+                tab.getElement().getStyle().get("flexGrow"));
+        assertThat("flexGrow is invalid", tab.getFlexGrow(), is(0.0));
+    }
+
+    @Test
+    public void shouldKeepOtherThemeNamesWhenSettingVariants() throws Exception {
+        tab.getThemeNames().add("custom");
+        tab.addThemeVariants(TabVariant.LUMO_ICON_ON_TOP);
+
+        tab.setThemeVariants(EnumSet.noneOf(TabVariant.class));
+
+        assertThat("Theme attribute is invalid",
+                tab.getElement().getAttribute("theme"), is("custom"));
+        assertTrue("Variants should have been removed",
+                tab.getThemeVariants().isEmpty());
+    }
+
+    @Test
+    public void shouldKeepLabelWhenAddingComponents() throws Exception {
+        tab = new Tab("A label");
+        Span span = new Span("suffix");
+
+        tab.add(span);
+
+        assertThat("Label should precede the added component",
+                tab.getElement().getChild(0).getText(), is("A label"));
+        assertThat(tab.getElement().getChild(1), is(span.getElement()));
+        assertThat("Label should not include the text of the children",
+                tab.getLabel(), is("A label"));
+
+        tab.removeAll();
+        assertThat("Label is invalid", tab.getLabel(), is(""));
+    }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.tabs.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.component.tabs.Tab;
+import com.vaadin.flow.component.tabs.Tabs;
+import com.vaadin.flow.component.tabs.TabsItemWindow;
+import com.vaadin.flow.data.provider.DataProvider;
+
+/**
+ * @author Vaadin Ltd.
+ */
+public class TabsItemWindowTest {
+
+    private Tabs tabs;
+    private TabsItemWindow<String> window;
+
+    private int eventCount;
+
+    private Tabs.SelectedChangeEvent lastEvent;
+
+    @Before
+    public void init() {
+        List<String> items = IntStream.range(0, 1000)
+                .mapToObj(i -> "Item " + i).collect(Collectors.toList());
+        tabs = new Tabs();
+        tabs.addSelectedChangeListener(event -> {
+            eventCount++;
+            lastEvent = event;
+        });
+        window = tabs.setItems(DataProvider.ofCollection(items),
+                item -> item);
+    }
+
+    @Test
+    public void setItems_onlyWindowIsMaterialized_firstItemSelected() {
+        Assert.assertEquals(1000, window.getItemCount());
+        Assert.assertEquals(window.getWindowSize(), tabs.getComponentCount());
+        Assert.assertEquals(0, window.getSelectedItemIndex());
+        Assert.assertEquals("Item 0", window.getSelectedItem().get());
+        Assert.assertEquals("Item 0", tabs.getSelectedTab().getLabel());
+        Assert.assertEquals(1, eventCount);
+    }
+
+    @Test
+    public void selectItemOutsideOfWindow_windowMoved() {
+        window.setSelectedItemIndex(500);
+
+        Assert.assertEquals(window.getWindowSize(), tabs.getComponentCount());
+        Assert.assertEquals("Item 500", tabs.getSelectedTab().getLabel());
+        Assert.assertEquals("Item 500", window.getSelectedItem().get());
+        Assert.assertEquals("Item 500",
+                window.getItem(tabs.getSelectedTab()).get());
+        Assert.assertEquals(2, eventCount);
+        Assert.assertFalse(lastEvent.isInitialSelection());
+        Assert.assertEquals("Item 0", lastEvent.getPreviousTab().getLabel());
+    }
+
+    @Test
+    public void selectItem_itemFoundFromDataProvider() {
+        window.setSelectedItem("Item 750");
+
+        Assert.assertEquals(750, window.getSelectedItemIndex());
+        Assert.assertEquals("Item 750", tabs.getSelectedTab().getLabel());
+    }
+
+    @Test
+    public void scrollAwayFromSelection_selectionKept_noEvent() {
+        window.setSelectedItemIndex(500);
+        window.scrollToIndex(900);
+
+        Assert.assertNull(tabs.getSelectedTab());
+        Assert.assertEquals(500, window.getSelectedItemIndex());
+        Assert.assertEquals(2, eventCount);
+
+        window.scrollToIndex(510);
+        Assert.assertEquals("Item 500", tabs.getSelectedTab().getLabel());
+        Assert.assertEquals(2, eventCount);
+    }
+
+    @Test
+    public void clearItems_tabsRemoved() {
+        tabs.clearItems();
+
+        Assert.assertEquals(0, tabs.getComponentCount());
+        Assert.assertNull(tabs.getSelectedTab());
+    }
+
+    @Test
+    public void setItems_manuallyAddedTabsRemoved() {
+        Tabs tabs = new Tabs(new Tab("Manual"));
+        TabsItemWindow<String> window = tabs.setItems(
+                DataProvider.ofItems("A", "B"), item -> item);
+
+        Assert.assertEquals(2, tabs.getComponentCount());
+        Assert.assertEquals("A", ((Tab) tabs.getComponentAt(0)).getLabel());
+        Assert.assertEquals("A", window.getSelectedItem().get());
+    }
+
+    @Test
+    public void itemInsertedBeforeSelection_refreshAll_selectedItemKept() {
+        List<String> items = new ArrayList<>(
+                IntStream.range(0, 10).mapToObj(i -> "Item " + i)
+                        .collect(Collectors.toList()));
+        Tabs tabs = new Tabs();
+        TabsItemWindow<String> window = tabs
+                .setItems(DataProvider.ofCollection(items), item -> item);
+        window.setSelectedItemIndex(3);
+
+        items.add(0, "New item");
+        window.refreshAll();
+
+        Assert.assertEquals(4, window.getSelectedItemIndex());
+        Assert.assertEquals("Item 3", window.getSelectedItem().get());
+        Assert.assertEquals("Item 3", tabs.getSelectedTab().getLabel());
+    }
+
+    @Test
+    public void selectedItemRemoved_refreshAll_selectionCleared() {
+        List<String> items = new ArrayList<>(
+                IntStream.range(0, 10).mapToObj(i -> "Item " + i)
+                        .collect(Collectors.toList()));
+        Tabs tabs = new Tabs();
+        TabsItemWindow<String> window = tabs
+                .setItems(DataProvider.ofCollection(items), item -> item);
+        window.setSelectedItemIndex(3);
+
+        items.remove("Item 3");
+        window.refreshAll();
+
+        Assert.assertEquals(-1, window.getSelectedItemIndex());
+        Assert.assertFalse(window.getSelectedItem().isPresent());
+        Assert.assertNull(tabs.getSelectedTab());
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2000-2018 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.tabs.tests;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.HasElement;
+import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.tabs.Tab;
+import com.vaadin.flow.component.tabs.Tabs;
+import com.vaadin.flow.router.AfterNavigationEvent;
+import com.vaadin.flow.router.Location;
+import com.vaadin.flow.router.LocationChangeEvent;
+import com.vaadin.flow.router.NavigationTrigger;
+import com.vaadin.flow.router.Router;
+import com.vaadin.flow.router.internal.AfterNavigationHandler;
+import com.vaadin.flow.server.RouteRegistry;
+
+/**
+ * @author Vaadin Ltd.
+ */
+public class TabsRouteTest {
+
+    private static class NavigationRecordingUI extends UI {
+        private final List<Class<? extends Component>> navigations = new ArrayList<>();
+
+        @Override
+        public void navigate(Class<? extends Component> navigationTarget) {
+            navigations.add(navigationTarget);
+        }
+    }
+
+    @Tag("div")
+    private static class UnboundView extends Component {
+    }
+
+    private NavigationRecordingUI ui;
+    private Tab tab1;
+    private Tab tab2;
+    private Tabs tabs;
+    private List<Tabs.SelectedChangeEvent> events;
+
+    @Before
+    public void init() {
+        ui = new NavigationRecordingUI();
+        tab1 = new Tab("foo");
+        tab2 = new Tab("bar");
+        tabs = new Tabs(tab1, tab2);
+        ui.add(tabs);
+        tabs.bindRoute(tab1, Div.class);
+        tabs.bindRoute(tab2, Span.class);
+        events = new ArrayList<>();
+        tabs.addSelectedChangeListener(events::add);
+    }
+
+    @Test
+    public void afterNavigation_tabOfTargetSelected() {
+        afterNavigation(ui, new Span());
+
+        Assert.assertEquals(tab2, tabs.getSelectedTab());
+        Assert.assertEquals(1, events.size());
+        Assert.assertFalse(events.get(0).isFromClient());
+    }
+
+    @Test
+    public void afterNavigation_targetNotBound_tabOfParentLayoutSelected() {
+        tabs.setSelectedTab(tab2);
+        events.clear();
+
+        // The target comes first in the chain, followed by its layouts
+        afterNavigation(ui, new UnboundView(), new Div());
+
+        Assert.assertEquals(tab1, tabs.getSelectedTab());
+        Assert.assertEquals(1, events.size());
+    }
+
+    @Test
+    public void afterNavigation_nothingBound_selectionCleared() {
+        afterNavigation(ui, new UnboundView());
+
+        Assert.assertNull(tabs.getSelectedTab());
+    }
+
+    @Test
+    public void afterNavigation_tabAlreadySelected_noEventFired() {
+        afterNavigation(ui, new Div());
+
+        Assert.assertEquals(tab1, tabs.getSelectedTab());
+        Assert.assertTrue(events.isEmpty());
+        Assert.assertTrue(ui.navigations.isEmpty());
+    }
+
+    @Test
+    public void clientSelection_navigatesToTarget() {
+        tabs.setSelectedTab(tab2);
+        Assert.assertTrue("Server-side selection should not navigate",
+                ui.navigations.isEmpty());
+
+        // The event of a selection made by the user
+        ComponentUtil.fireEvent(tabs,
+                new Tabs.SelectedChangeEvent(tabs, tab1, true));
+
+        Assert.assertEquals(Arrays.asList(Span.class), ui.navigations);
+
+        // The navigation then selects the tab that is already selected
+        events.clear();
+        afterNavigation(ui, new Span());
+        Assert.assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void detached_listenerRemoved() {
+        ui.remove(tabs);
+
+        Assert.assertTrue(
+                ui.getInternals().getListeners(AfterNavigationHandler.class)
+                        .isEmpty());
+    }
+
+    @Test
+    public void deserialized_detached_listenerRemoved()
+            throws IOException, ClassNotFoundException {
+        UI deserializedUI = serializeAndDeserialize(ui);
+        Tabs deserializedTabs = (Tabs) deserializedUI.getChildren()
+                .findFirst().get();
+
+        deserializedUI.remove(deserializedTabs);
+
+        Assert.assertTrue(deserializedUI.getInternals()
+                .getListeners(AfterNavigationHandler.class).isEmpty());
+    }
+
+    private static void afterNavigation(UI ui, HasElement... chain) {
+        LocationChangeEvent locationChange = new LocationChangeEvent(
+                new Router((RouteRegistry) null), ui,
+                NavigationTrigger.PROGRAMMATIC, new Location(""),
+                Arrays.asList(chain));
+        AfterNavigationEvent event = new AfterNavigationEvent(locationChange);
+        ui.getInternals().getListeners(AfterNavigationHandler.class)
+                .forEach(listener -> listener.afterNavigation(event));
+    }
+
+    private static UI serializeAndDeserialize(UI ui)
+            throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(ui);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (UI) in.readObject();
+        }
+    }
+}
@@ -1,6 +1,77 @@
 package com.vaadin.flow.component.tabs.tests;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.HasComponents;
+import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.component.tabs.Tab;
+import com.vaadin.flow.component.tabs.Tabs;
 import com.vaadin.flow.testutil.ClassesSerializableTest;
 
 public class TabsSerializableTest extends ClassesSerializableTest {
+
+    /*
+     * Measured on top of plain components with the same elements, so the
+     * state nodes of Flow cancel out. Leaves room for a few fields per tab,
+     * but not for another collection or state node per tab.
+     */
+    private static final int MAX_BYTES_PER_TAB = 256;
+
+    @Tag("vaadin-tabs")
+    private static class PlainTabs extends Component implements HasComponents {
+    }
+
+    @Tag("vaadin-tab")
+    private static class PlainTab extends Component {
+        private PlainTab(String label) {
+            getElement().setText(label);
+            getElement().getStyle().set("flexGrow", "1");
+        }
+    }
+
+    @Test
+    public void serializedSizePerTab_withinBudget() throws IOException {
+        // The differences cancel out the class descriptors written once
+        int bytesPerTab = (serializedSize(200) - serializedSize(100)) / 100;
+        int bytesPerPlainTab = (serializedPlainSize(200)
+                - serializedPlainSize(100)) / 100;
+        int overhead = bytesPerTab - bytesPerPlainTab;
+
+        Assert.assertTrue("Serialized size per tab is " + overhead
+                + " bytes more than a plain component, expected at most "
+                + MAX_BYTES_PER_TAB, overhead <= MAX_BYTES_PER_TAB);
+    }
+
+    private static int serializedSize(int tabCount) throws IOException {
+        Tabs tabs = new Tabs();
+        for (int i = 0; i < tabCount; i++) {
+            Tab tab = new Tab("Tab " + i);
+            tab.setFlexGrow(1);
+            tabs.add(tab);
+        }
+        tabs.setSelectedIndex(tabCount / 2);
+        return serializedSize(tabs);
+    }
+
+    private static int serializedPlainSize(int tabCount) throws IOException {
+        PlainTabs tabs = new PlainTabs();
+        for (int i = 0; i < tabCount; i++) {
+            tabs.add(new PlainTab("Tab " + i));
+        }
+        return serializedSize(tabs);
+    }
+
+    private static int serializedSize(Component component) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(component);
+        }
+        return bytes.size();
+    }
 }
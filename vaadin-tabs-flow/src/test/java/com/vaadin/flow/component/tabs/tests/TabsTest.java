@@ -16,14 +16,30 @@
 
 package com.vaadin.flow.component.tabs.tests;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
 import org.hamcrest.CoreMatchers;
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.tabs.Tab;
 import com.vaadin.flow.component.tabs.Tabs;
+import com.vaadin.flow.component.tabs.TabsVariant;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -126,9 +142,31 @@ public class TabsTest {
 
         tabs.setFlexGrowForEnclosedTabs(1.5);
 
-        assertThat("flexGrow of tab1 is invalid", tab1.getFlexGrow(), is(1.5));
-        assertThat("flexGrow of tab2 is invalid", tab2.getFlexGrow(), is(1.5));
-        assertThat("flexGrow of tab3 is invalid", tab3.getFlexGrow(), is(1.5));
+        assertThat("flexGrow of enclosed tabs is invalid",
+                tabs.getFlexGrowForEnclosedTabs(), is(1.5));
+        assertThat("Tabs should only be styled through the parent",
+                tab1.getFlexGrow(), is(0.0));
+    }
+
+    @Test
+    public void setFlexGrowForEnclosedTabs_singleStyleOnTabs() {
+        Tab tab1 = new Tab("Tab one");
+        Tab tab2 = new Tab("Tab two");
+        tab2.setFlexGrow(2);
+        Tab tab3 = new Tab("Tab three");
+        tab3.setFlexGrow(0);
+        Tabs tabs = new Tabs(tab1, tab2, tab3);
+
+        tabs.setFlexGrowForEnclosedTabs(1.5);
+        tabs.add(new Tab("Tab four"));
+
+        assertThat(tabs.getElement().getStyle().get("--vaadin-tab-flex-grow"),
+                is("1.5"));
+        Assert.assertNull(tab1.getElement().getStyle().get("flexGrow"));
+        assertThat("Tab should keep its own flex grow",
+                tab2.getElement().getStyle().get("flexGrow"), is("2.0"));
+        assertThat("Tab should be able to opt out",
+                tab3.getElement().getStyle().get("flexGrow"), is("0.0"));
     }
 
     @Test
@@ -155,6 +193,95 @@ public class TabsTest {
         Assert.assertTrue(tab2.isSelected());
     }
 
+    @Test
+    public void changeSelection_onlyNewTabIsSelected() {
+        Tab tab1 = new Tab("Tab one");
+        Tab tab2 = new Tab("Tab two");
+        Tab tab3 = new Tab("Tab three");
+        Tabs tabs = new Tabs(tab1, tab2, tab3);
+
+        tabs.setSelectedTab(tab2);
+        tabs.setSelectedTab(tab3);
+
+        Assert.assertFalse(tab1.isSelected());
+        Assert.assertFalse(tab2.isSelected());
+        Assert.assertTrue(tab3.isSelected());
+    }
+
+    @Test
+    public void removeSelectedTab_removedTabIsUnselected() {
+        Tab tab1 = new Tab("Tab one");
+        Tab tab2 = new Tab("Tab two");
+        Tabs tabs = new Tabs(tab1, tab2);
+
+        tabs.remove(tab1);
+
+        Assert.assertFalse(tab1.isSelected());
+        Assert.assertTrue(tab2.isSelected());
+    }
+
+    @Test
+    public void indexOf_followsStructuralChanges() {
+        Tab tab1 = new Tab("Tab one");
+        Tab tab2 = new Tab("Tab two");
+        Tab tab3 = new Tab("Tab three");
+        Tabs tabs = new Tabs(tab1, tab2);
+        Assert.assertEquals(1, tabs.indexOf(tab2));
+
+        tabs.addComponentAsFirst(tab3);
+        Assert.assertEquals(0, tabs.indexOf(tab3));
+        Assert.assertEquals(2, tabs.indexOf(tab2));
+
+        Tab replacement = new Tab("Replacement");
+        tabs.replace(tab1, replacement);
+        Assert.assertEquals(1, tabs.indexOf(replacement));
+        Assert.assertEquals(-1, tabs.indexOf(tab1));
+
+        tabs.remove(tab3);
+        Assert.assertEquals(0, tabs.indexOf(replacement));
+        Assert.assertEquals(1, tabs.indexOf(tab2));
+
+        tabs.removeAll();
+        Assert.assertEquals(-1, tabs.indexOf(tab2));
+    }
+
+    @Test
+    public void indexOf_childrenChangedWithElementApi() {
+        Tab tab1 = new Tab("Tab one");
+        Tab tab2 = new Tab("Tab two");
+        Tabs tabs = new Tabs(tab1, tab2);
+        Assert.assertEquals(1, tabs.indexOf(tab2));
+
+        Tab tab3 = new Tab("Tab three");
+        tabs.getElement().insertChild(0, tab3.getElement());
+        Assert.assertEquals(0, tabs.indexOf(tab3));
+        Assert.assertEquals(2, tabs.indexOf(tab2));
+
+        tabs.getElement().removeChild(tab1.getElement());
+        Assert.assertEquals(-1, tabs.indexOf(tab1));
+        Assert.assertEquals(1, tabs.indexOf(tab2));
+    }
+
+    @Test
+    public void getComponentAt_childrenChangedWithElementApi() {
+        Tab tab1 = new Tab("Tab one");
+        Tab tab2 = new Tab("Tab two");
+        Tabs tabs = new Tabs(tab1, tab2);
+        Assert.assertEquals(2, tabs.getComponentCount());
+        Assert.assertEquals(tab2, tabs.getComponentAt(1));
+
+        Tab tab3 = new Tab("Tab three");
+        tabs.getElement().insertChild(0, tab3.getElement());
+        Assert.assertEquals(3, tabs.getComponentCount());
+        Assert.assertEquals(tab3, tabs.getComponentAt(0));
+        Assert.assertEquals(tab2, tabs.getComponentAt(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getComponentAt_indexOutOfBounds_throws() {
+        new Tabs(new Tab("Tab one")).getComponentAt(1);
+    }
+
     @Test
     public void tabsAutoselectConstructor() {
         Tabs tabs1 = new Tabs(true);
@@ -193,4 +320,207 @@ public class TabsTest {
         Assert.assertNull("should not select other tab if current tab removed",
                 tabs.getSelectedTab());
     }
+
+    @Test
+    public void serializeAndDeserialize_selectionKept_noEventForUnchangedSelection()
+            throws IOException, ClassNotFoundException {
+        Tabs tabs = new Tabs(new Tab("Tab one"), new Tab("Tab two"));
+        tabs.setSelectedIndex(1);
+
+        Tabs deserialized = serializeAndDeserialize(tabs);
+        AtomicReference<Tabs.SelectedChangeEvent> event = new AtomicReference<>();
+        deserialized.addSelectedChangeListener(event::set);
+
+        deserialized.add(new Tab("Tab three"));
+        Assert.assertNull("Selection event should not have been fired",
+                event.get());
+        Assert.assertEquals("Tab two", deserialized.getSelectedTab().getLabel());
+        Assert.assertTrue(deserialized.getSelectedTab().isSelected());
+
+        deserialized.setSelectedIndex(0);
+        Assert.assertEquals("Tab two", event.get().getPreviousTab().getLabel());
+        Assert.assertFalse(event.get().isInitialSelection());
+    }
+
+    @Test
+    public void addThemeVariantsTwice_themeAttributeNotDuplicated() {
+        Tabs tabs = new Tabs();
+        tabs.addThemeVariants(TabsVariant.LUMO_SMALL);
+        tabs.addThemeVariants(TabsVariant.LUMO_SMALL,
+                TabsVariant.LUMO_CENTERED);
+
+        Assert.assertEquals("small centered",
+                tabs.getElement().getAttribute("theme"));
+        Assert.assertEquals(
+                EnumSet.of(TabsVariant.LUMO_SMALL, TabsVariant.LUMO_CENTERED),
+                tabs.getThemeVariants());
+    }
+
+    @Test
+    public void setThemeVariants_otherThemeNamesKept() {
+        Tabs tabs = new Tabs();
+        tabs.getThemeNames().add("custom");
+        tabs.addThemeVariants(TabsVariant.LUMO_SMALL);
+
+        tabs.setThemeVariants(EnumSet.of(TabsVariant.LUMO_MINIMAL));
+
+        Assert.assertEquals("custom minimal",
+                tabs.getElement().getAttribute("theme"));
+    }
+
+    @Test
+    public void themeNamesChangedDirectly_variantsUpdated() {
+        Tabs tabs = new Tabs();
+        tabs.addThemeVariants(TabsVariant.LUMO_SMALL);
+        tabs.getThemeNames().remove(TabsVariant.LUMO_SMALL.getVariantName());
+        tabs.getThemeNames().add(TabsVariant.LUMO_CENTERED.getVariantName());
+
+        Assert.assertEquals(EnumSet.of(TabsVariant.LUMO_CENTERED),
+                tabs.getThemeVariants());
+
+        tabs.addThemeVariants(TabsVariant.LUMO_SMALL);
+        Assert.assertEquals("centered small",
+                tabs.getElement().getAttribute("theme"));
+    }
+
+    @Test
+    public void prefetchNeighbours_closestNeighboursPrefetchedAfterSelection() {
+        Tab tab0 = new Tab("0");
+        Tab tab1 = new Tab("1");
+        Tab tab2 = new Tab("2");
+        Tab tab3 = new Tab("3");
+        Tab tab4 = new Tab("4");
+        Tabs tabs = new Tabs(tab0, tab1, tab2, tab3, tab4);
+        tabs.setPrefetchNeighbours(1);
+        List<Tab> prefetched = new ArrayList<>();
+        tabs.addPrefetchListener(event -> {
+            Assert.assertFalse(event.isFromClient());
+            prefetched.add(event.getTab());
+        });
+
+        tabs.setSelectedIndex(2);
+        Assert.assertEquals(Arrays.asList(tab3, tab1), prefetched);
+
+        prefetched.clear();
+        tab1.setEnabled(false);
+        tabs.setSelectedIndex(0);
+        Assert.assertTrue("Disabled tab should not have been prefetched",
+                prefetched.isEmpty());
+    }
+
+    @Test
+    public void prefetchNeighbours_coalescedEvents_prefetchedAfterDispatchedEvent() {
+        Tab tab0 = new Tab("0");
+        Tab tab1 = new Tab("1");
+        Tab tab2 = new Tab("2");
+        Tab tab3 = new Tab("3");
+        Tabs tabs = new Tabs(tab0, tab1, tab2, tab3);
+        UI ui = new UI();
+        ui.add(tabs);
+        tabs.setSelectionEventsCoalesced(true);
+        tabs.setPrefetchNeighbours(1);
+        List<String> events = new ArrayList<>();
+        tabs.addSelectedChangeListener(event -> events
+                .add("selected " + event.getSelectedTab().getLabel()));
+        tabs.addPrefetchListener(
+                event -> events.add("prefetch " + event.getTab().getLabel()));
+
+        tabs.setSelectedIndex(1);
+        tabs.setSelectedIndex(2);
+        Assert.assertTrue(events.isEmpty());
+
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+        Assert.assertEquals(
+                Arrays.asList("selected 2", "prefetch 3", "prefetch 1"),
+                events);
+    }
+
+    @Test
+    public void setKeyedItems_tabsReusedAndReordered_selectionKept() {
+        Tabs tabs = new Tabs();
+        tabs.setItems(Arrays.asList("a", "b", "c", "d"), item -> item,
+                Tab::new);
+        Tab tabB = (Tab) tabs.getComponentAt(1);
+        Tab tabD = (Tab) tabs.getComponentAt(3);
+        tabs.setSelectedTab(tabB);
+        AtomicReference<Tabs.SelectedChangeEvent> event = new AtomicReference<>();
+        tabs.addSelectedChangeListener(event::set);
+
+        tabs.setItems(Arrays.asList("d", "e", "b", "a"), item -> item,
+                Tab::new);
+
+        Assert.assertEquals(Arrays.asList("d", "e", "b", "a"),
+                tabs.getChildren().map(tab -> ((Tab) tab).getLabel())
+                        .collect(Collectors.toList()));
+        Assert.assertSame(tabD, tabs.getComponentAt(0));
+        Assert.assertSame(tabB, tabs.getComponentAt(2));
+        Assert.assertSame(tabB, tabs.getSelectedTab());
+        Assert.assertEquals(2, tabs.getSelectedIndex());
+        Assert.assertNull("Selection event should not have been fired",
+                event.get());
+    }
+
+    @Test
+    public void setKeyedItems_selectedItemRemoved_singleEventFired() {
+        Tabs tabs = new Tabs();
+        tabs.setItems(Arrays.asList("a", "b", "c"), item -> item, Tab::new);
+        List<Tabs.SelectedChangeEvent> events = new ArrayList<>();
+        tabs.addSelectedChangeListener(events::add);
+
+        tabs.setItems(Arrays.asList("c", "b"), item -> item, Tab::new);
+
+        Assert.assertEquals(1, events.size());
+        Assert.assertEquals("c", tabs.getSelectedTab().getLabel());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setKeyedItems_duplicateKeys_throws() {
+        new Tabs().setItems(Arrays.asList("a", "a"), item -> item, Tab::new);
+    }
+
+    @Test
+    public void setKeyedItems_deserialized_tabsStillReused()
+            throws IOException, ClassNotFoundException {
+        Tabs tabs = new Tabs();
+        tabs.setItems(Arrays.asList("a", "b"), item -> item, Tab::new);
+
+        Tabs deserialized = serializeAndDeserialize(tabs);
+        Tab tabB = (Tab) deserialized.getComponentAt(1);
+        deserialized.setItems(Arrays.asList("b", "c"), item -> item,
+                Tab::new);
+
+        Assert.assertSame(tabB, deserialized.getComponentAt(0));
+        Assert.assertEquals("c",
+                ((Tab) deserialized.getComponentAt(1)).getLabel());
+    }
+
+    @Test
+    public void bindRoute_rebindingTargetRemovesPreviousBinding() {
+        Tab tab1 = new Tab("Tab one");
+        Tab tab2 = new Tab("Tab two");
+        Tabs tabs = new Tabs(tab1, tab2);
+
+        tabs.bindRoute(tab1, Div.class);
+        tabs.bindRoute(tab2, Span.class);
+        Assert.assertEquals(Div.class, tabs.getRoute(tab1).get());
+
+        tabs.bindRoute(tab2, Div.class);
+        Assert.assertFalse(tabs.getRoute(tab1).isPresent());
+        Assert.assertEquals(Div.class, tabs.getRoute(tab2).get());
+
+        tabs.bindRoute(tab2, null);
+        Assert.assertFalse(tabs.getRoute(tab2).isPresent());
+    }
+
+    private static Tabs serializeAndDeserialize(Tabs tabs)
+            throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(tabs);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (Tabs) in.readObject();
+        }
+    }
 }